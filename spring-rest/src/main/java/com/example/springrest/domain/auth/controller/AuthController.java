@@ -8,6 +8,9 @@ import com.example.springrest.domain.auth.model.TokenValidationRequest;
 import com.example.springrest.domain.auth.model.TokenValidationResponse;
 import com.example.springrest.domain.user.model.entity.UserInfo;
 import com.example.springrest.domain.auth.service.AuthService;
+import com.example.springrest.global.ratelimit.RateLimitPolicy;
+import com.example.springrest.global.ratelimit.RateLimiter;
+import com.example.springrest.global.util.ClientIpResolver;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +31,8 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
+    private final RateLimiter rateLimiter;
+    private final ClientIpResolver clientIpResolver;
 
     /**
      * 로그인 API
@@ -41,11 +46,14 @@ public class AuthController {
             @Valid @RequestBody LoginRequest request,
             HttpServletRequest httpRequest) {
 
-        String ipAddress = getClientIpAddress(httpRequest);
+        String ipAddress = clientIpResolver.resolve(httpRequest);
         String userAgent = httpRequest.getHeader("User-Agent");
 
         log.info("Login attempt for user: {} from IP: {}", request.getUserId(), ipAddress);
 
+        // 사용자 아이디 기준 시도 제한 (IP 기준 제한은 RateLimitInterceptor에서 처리)
+        rateLimiter.acquire(RateLimitPolicy.LOGIN_USER, request.getUserId());
+
         LoginResponse response = authService.login(request, ipAddress, userAgent);
 
         log.info("Login successful for user: {}", request.getUserId());
@@ -70,21 +78,6 @@ public class AuthController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
-    /**
-     * 클라이언트 IP 주소 추출
-     * X-Forwarded-For 헤더 우선 확인 (프록시 환경 대응)
-     * 
-     * @param request HTTP 요청
-     * @return IP 주소
-     */
-    private String getClientIpAddress(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-        return request.getRemoteAddr();
-    }
-
     /**
      * 현재 사용자 정보 조회 API
      * 
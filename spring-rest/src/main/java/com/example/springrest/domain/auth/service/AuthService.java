@@ -5,16 +5,19 @@ import com.example.springrest.domain.auth.model.LoginResponse;
 import com.example.springrest.domain.auth.model.TokenValidationResponse;
 import com.example.springrest.domain.user.model.entity.UserInfo;
 import com.example.springrest.domain.user.repository.UserInfoMapper;
-import com.example.springrest.domain.user.model.enums.UserRole;
+import com.example.springrest.domain.user.service.UserSnapshotCache;
+import com.example.springrest.global.security.JwtPrincipal;
+import com.example.springrest.global.security.PasswordHasher;
 import com.example.springrest.global.security.JwtTokenProvider;
 import com.example.springrest.global.exception.AuthenticationException;
 import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+
 /**
  * 인증 서비스
  * 로그인, 토큰 생성 등 인증 관련 비즈니스 로직 처리
@@ -25,11 +28,13 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthService {
 
     private final UserInfoMapper userInfoMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final UserSnapshotCache userSnapshotCache;
+    private final PasswordHasher passwordHasher;
     private final JwtTokenProvider jwtTokenProvider;
 
     /**
      * 사용자 로그인
+     * 해시 대기 중 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행 (조회/재해시 저장은 각각 단일 문장)
      * 
      * @param request   로그인 요청 (username, password)
      * @param ipAddress 클라이언트 IP 주소
@@ -37,7 +42,6 @@ public class AuthService {
      * @return 로그인 응답 (JWT 토큰, 사용자 정보)
      * @throws IllegalArgumentException 인증 실패 시
      */
-    @Transactional
     public LoginResponse login(LoginRequest request, String ipAddress, String userAgent) {
         String userId = request.getUserId();
 
@@ -47,11 +51,16 @@ public class AuthService {
             throw new AuthenticationException("Invalid User ID or password");
         }
 
-        // 비밀번호 검증
-        if (!passwordEncoder.matches(request.getUserPwd(), user.getUserPwd())) {
+        // 비밀번호 검증 (해시 전용 실행기에서 수행)
+        if (!passwordHasher.matches(request.getUserPwd(), user.getUserPwd())) {
             throw new AuthenticationException("Invalid User ID or password");
         }
 
+        // 저장된 해시의 cost가 설정값과 다르면 재해시 (선택 기능)
+        if (passwordHasher.isRehashOnLogin() && passwordHasher.needsRehash(user.getUserPwd())) {
+            rehashPassword(userId, request.getUserPwd());
+        }
+
         // JWT 토큰 생성 (매핑 테이블에서 가져온 역할 정보 사용)
         String token = jwtTokenProvider.generateToken(user.getUserId(), user.getRoles());
         String refreshToken = jwtTokenProvider.generateRefreshToken(user.getUserId());
@@ -68,6 +77,22 @@ public class AuthService {
                 .build();
     }
 
+    /**
+     * 현재 설정된 cost로 비밀번호 재해시 후 저장
+     * 해시는 트랜잭션 밖에서 수행하고 저장만 단일 UPDATE로 실행, 실패해도 로그인은 계속 진행 (다음 로그인 시 재시도)
+     * 
+     * @param userId      사용자 아이디
+     * @param rawPassword 검증된 입력 비밀번호
+     */
+    private void rehashPassword(String userId, String rawPassword) {
+        try {
+            userInfoMapper.updatePassword(userId, passwordHasher.encode(rawPassword));
+            log.info("Password rehashed for user: {}", userId);
+        } catch (RuntimeException e) {
+            log.warn("Password rehash skipped for user {}: {}", userId, e.getMessage());
+        }
+    }
+
     /**
      * 토큰 갱신
      * 
@@ -77,18 +102,14 @@ public class AuthService {
      */
     @Transactional
     public LoginResponse refreshToken(String refreshToken) {
-        // 리프래쉬 토큰 검증
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
-            throw new JwtException("Invalid refresh token");
-        }
-
-        // 사용자 아이디 추출
-        String userId = jwtTokenProvider.extractUserId(refreshToken);
-
-        // 사용자 조회
-        UserInfo user = userInfoMapper.findById(userId);
-        if (user == null) {
-            throw new JwtException("User not found");
+        // 리프래쉬 토큰 검증 및 사용자 아이디 추출
+        String userId = jwtTokenProvider.verify(refreshToken).userId();
+
+        // 사용자 조회 (스냅샷 캐시)
+        UserInfo user = userSnapshotCache.get(userId)
+                .orElseThrow(() -> new JwtException("User not found"));
+        if (!UserSnapshotCache.isActive(user)) {
+            throw new JwtException("User is disabled");
         }
 
         // 새로운 토큰 생성
@@ -115,12 +136,8 @@ public class AuthService {
      * @throws IllegalArgumentException 사용자를 찾을 수 없을 때
      */
     public UserInfo getCurrentUser(String userId) {
-        UserInfo user = userInfoMapper.findById(userId);
-        if (user == null) {
-            throw new IllegalArgumentException("User not found: " + userId);
-        }
-
-        return user;
+        return userSnapshotCache.get(userId)
+                .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
     }
 
     /**
@@ -131,16 +148,10 @@ public class AuthService {
      */
     public TokenValidationResponse validateToken(String token) {
         try {
-            // 토큰 유효성 검증
-            if (!jwtTokenProvider.validateToken(token)) {
-                return TokenValidationResponse.invalid("Invalid token");
-            }
-
-            // 사용자 아이디와 역할 추출
-            String userId = jwtTokenProvider.extractUserId(token);
-            java.util.List<UserRole> roles = jwtTokenProvider.extractRoles(token);
+            // 토큰 유효성 검증 및 사용자 아이디와 역할 추출
+            JwtPrincipal principal = jwtTokenProvider.verify(token);
 
-            return TokenValidationResponse.valid(userId, roles);
+            return TokenValidationResponse.valid(principal.userId(), new ArrayList<>(principal.roles()));
 
         } catch (JwtException e) {
             log.warn("Token validation failed: {}", e.getMessage());
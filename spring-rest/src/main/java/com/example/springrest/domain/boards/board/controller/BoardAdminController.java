@@ -0,0 +1,76 @@
+package com.example.springrest.domain.boards.board.controller;
+
+import com.example.springrest.domain.boards.board.model.dto.BoardArchiveResult;
+import com.example.springrest.domain.boards.board.model.dto.BoardCountRebuildResult;
+import com.example.springrest.domain.boards.board.model.dto.BoardSearchDto;
+import com.example.springrest.domain.boards.board.service.BoardArchiveService;
+import com.example.springrest.domain.boards.board.service.BoardCountRebuildService;
+import com.example.springrest.domain.boards.board.service.BoardService;
+import com.example.springrest.global.bulk.BulkImportResult;
+import com.example.springrest.global.bulk.BulkImporter;
+import com.example.springrest.global.export.ExportFormat;
+import com.example.springrest.global.model.dto.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@Tag(name = "Board - Maintenance", description = "게시물 관리 작업 API")
+@RestController
+@RequestMapping("/api/v1/mgmt/boards")
+@RequiredArgsConstructor
+public class BoardAdminController {
+
+    private final BoardCountRebuildService boardCountRebuildService;
+    private final BoardService boardService;
+    private final BoardArchiveService boardArchiveService;
+
+    @Operation(summary = "첨부/댓글 수 재계산", description = "원본 테이블 기준으로 목록용 첨부/댓글 수를 복구 (응답의 lastBoardId로 이어서 실행)")
+    @PostMapping("/counts/rebuild")
+    public ResponseEntity<ApiResponse<BoardCountRebuildResult>> rebuildCounts(
+            @RequestParam(required = false) Integer afterBoardId,
+            @RequestParam(defaultValue = "1000") int batchSize,
+            @RequestParam(defaultValue = "10") int maxBatches) {
+        return ResponseEntity.ok(ApiResponse.success(
+                boardCountRebuildService.rebuild(afterBoardId, batchSize, maxBatches)));
+    }
+
+    @Operation(summary = "삭제 게시물 보관", description = "보관 기간이 지난 삭제 게시물/첨부파일을 보관 테이블로 이동 (done=false면 다시 실행하여 이어서 처리)")
+    @PostMapping("/archive")
+    public ResponseEntity<ApiResponse<BoardArchiveResult>> archive(
+            @RequestParam(defaultValue = "1000") int batchSize,
+            @RequestParam(defaultValue = "10") int maxBatches) {
+        return ResponseEntity.ok(ApiResponse.success(boardArchiveService.archive(batchSize, maxBatches)));
+    }
+
+    @Operation(summary = "게시물 내보내기", description = "검색 조건 전체를 CSV/NDJSON으로 스트리밍, 관리자 전용 (gzip=true 시 Content-Encoding: gzip)")
+    @GetMapping("/export")
+    public void exportBoards(
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @ModelAttribute BoardSearchDto searchDto,
+            HttpServletResponse response) throws IOException {
+        boardService.exportBoards(searchDto, format, gzip, response);
+    }
+
+    @Operation(summary = "게시물 대량 가져오기", description = "요청 본문(CSV 헤더 행 포함 또는 NDJSON)을 스트리밍으로 읽어 배치 저장, 행 오류는 결과에 포함, 관리자 전용 (Content-Encoding: gzip 지원)")
+    @PostMapping("/import")
+    public ResponseEntity<ApiResponse<BulkImportResult>> importBoards(
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            HttpServletRequest request) throws IOException {
+        String operatorId = SecurityContextHolder.getContext().getAuthentication().getName();
+        return ResponseEntity.ok(ApiResponse.success(
+                boardService.importBoards(BulkImporter.requestBody(request), format, operatorId)));
+    }
+}
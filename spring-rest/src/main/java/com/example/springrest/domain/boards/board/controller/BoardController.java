@@ -1,27 +1,39 @@
 package com.example.springrest.domain.boards.board.controller;
 
+import com.example.springrest.domain.boards.board.model.dto.BoardFileUrlResponse;
 import com.example.springrest.domain.boards.board.model.dto.BoardRequest;
 import com.example.springrest.domain.boards.board.model.dto.BoardSearchDto;
 import com.example.springrest.domain.boards.board.model.entity.Board;
+import com.example.springrest.domain.boards.board.service.BoardCounterService;
+import com.example.springrest.domain.boards.board.service.BoardDetailCache;
 import com.example.springrest.domain.boards.board.service.BoardService;
 import com.example.springrest.global.model.dto.ApiResponse;
+import com.example.springrest.global.model.dto.CursorResponse;
 import com.example.springrest.global.model.dto.PageResponse;
+import com.example.springrest.global.paging.CountMode;
+import com.example.springrest.global.security.DownloadUrlSigner;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 import java.util.List;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import com.example.springrest.domain.boards.board.model.entity.BoardFile;
-import com.example.springrest.global.util.FileStore;
+import com.example.springrest.global.util.FileDownloadHandler;
+import com.example.springrest.global.util.FileStorage;
+import jakarta.servlet.http.HttpServletResponse;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 @Tag(name = "Board - Post Management", description = "게시물 관리 API")
 @Slf4j
@@ -31,22 +43,45 @@ import java.nio.charset.StandardCharsets;
 public class BoardController {
 
     private final BoardService boardService;
-    private final FileStore fileStore;
+    private final FileStorage fileStore;
+    private final BoardCounterService boardCounterService;
+    private final FileDownloadHandler fileDownloadHandler;
+    private final DownloadUrlSigner downloadUrlSigner;
 
     @Operation(summary = "게시물 목록 조회")
     @GetMapping
     public ResponseEntity<ApiResponse<PageResponse<Board>>> getAllBoards(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) CountMode countMode,
             @ModelAttribute BoardSearchDto searchDto) {
-        return ResponseEntity.ok(ApiResponse.success(boardService.getBoardList(page, size, searchDto)));
+        return ResponseEntity.ok(ApiResponse.success(boardService.getBoardList(page, size, searchDto, countMode)));
     }
 
-    @Operation(summary = "게시물 상세 조회")
+    @Operation(summary = "게시물 목록 커서 조회")
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<Board>>> getBoardsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @ModelAttribute BoardSearchDto searchDto) {
+        return ResponseEntity.ok(ApiResponse.success(boardService.getBoardListByCursor(cursor, size, searchDto)));
+    }
+
+    @Operation(summary = "게시물 상세 조회", description = "If-None-Match가 현재 ETag와 같으면 304 응답")
     @GetMapping("/{boardId}")
-    public ResponseEntity<ApiResponse<Board>> getBoardById(@PathVariable Integer boardId) {
-        Board board = boardService.getBoard(boardId);
-        return board != null ? ResponseEntity.ok(ApiResponse.success(board)) : ResponseEntity.notFound().build();
+    public ResponseEntity<byte[]> getBoardById(@PathVariable Integer boardId, WebRequest webRequest) {
+        BoardDetailCache.Entry detail = boardService.getBoardDetail(boardId);
+        if (detail == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (webRequest.checkNotModified(detail.etag())) {
+            // 304 응답 (상태/헤더는 checkNotModified에서 설정)
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(detail.etag())
+                .body(detail.body());
     }
 
     @Operation(summary = "게시물 생성")
@@ -68,24 +103,73 @@ public class BoardController {
         return ResponseEntity.ok(ApiResponse.success(null));
     }
 
-    @Operation(summary = "파일 다운로드")
+    @Operation(summary = "첨부파일 스트리밍 업로드", description = "요청 본문(application/octet-stream)을 임시 파일 없이 저장")
+    @PostMapping(value = "/{boardId}/files", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<ApiResponse<BoardFile>> uploadFile(
+            @PathVariable Integer boardId,
+            @RequestParam String filename,
+            @RequestHeader(value = "X-File-Content-Type", required = false) String fileContentType,
+            HttpServletRequest request) throws Exception {
+        BoardFile boardFile = boardService.uploadFile(boardId, filename,
+                fileContentType != null ? fileContentType : MediaType.APPLICATION_OCTET_STREAM_VALUE,
+                request.getContentLengthLong(), request.getInputStream());
+        return ResponseEntity.ok(ApiResponse.success(boardFile));
+    }
+
+    @Operation(summary = "파일 다운로드", description = "Range(206, 다중 구간), If-Range, ETag/Last-Modified 조건부 요청 지원")
     @GetMapping("/files/{fileId}/download")
-    public ResponseEntity<Resource> downloadFile(@PathVariable Integer fileId) throws Exception {
+    public ResponseEntity<StreamingResponseBody> downloadFile(@PathVariable Integer fileId,
+            HttpServletRequest request, HttpServletResponse response) throws Exception {
         BoardFile boardFile = boardService.getBoardFile(fileId);
         if (boardFile == null) {
             return ResponseEntity.notFound().build();
         }
 
-        Resource resource = fileStore.loadFileAsResource(boardFile.getFilePath() + boardFile.getStrFileNm());
+        Path path = fileStore.getStoredPath(boardFile.getFilePath(), boardFile.getStrFileNm());
+        if (!Files.isReadable(path)) {
+            log.warn("Stored file missing: fileId={}, path={}", fileId, path);
+            return ResponseEntity.notFound().build();
+        }
 
+        String etag = "\"" + BoardService.contentTag(boardFile) + "\"";
         String encodedUploadFileName = URLEncoder.encode(boardFile.getOrgFileNm(), StandardCharsets.UTF_8)
                 .replace("+", "%20");
-        String contentDisposition = "attachment; filename=\"" + encodedUploadFileName + "\"";
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType("application/octet-stream"))
-                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
-                .body(resource);
+        return fileDownloadHandler.serve(path, etag, encodedUploadFileName, request, response,
+                () -> boardCounterService.incrementDownload(fileId));
+    }
+
+    @Operation(summary = "파일 서명 다운로드 URL 발급")
+    @GetMapping("/files/{fileId}/url")
+    public ResponseEntity<ApiResponse<BoardFileUrlResponse>> getFileDownloadUrl(@PathVariable Integer fileId) {
+        BoardFileUrlResponse url = boardService.getFileDownloadUrl(fileId);
+        return url != null ? ResponseEntity.ok(ApiResponse.success(url)) : ResponseEntity.notFound().build();
+    }
+
+    @Operation(summary = "서명 URL 파일 다운로드", description = "인증 없이 서명 검증 후 사용 중인 파일 행(캐시)을 확인하여 전송, 만료 전까지 공용 캐시 허용")
+    @GetMapping("/files/signed")
+    public ResponseEntity<StreamingResponseBody> downloadSignedFile(@RequestParam("t") String token,
+            @RequestParam("s") String signature, HttpServletRequest request, HttpServletResponse response)
+            throws Exception {
+        DownloadUrlSigner.SignedDownload download = downloadUrlSigner.verify(token, signature);
+        BoardFile boardFile = boardService.getSignedDownloadFile(download);
+        if (boardFile == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        Path path = fileStore.getStoredPath(boardFile.getFilePath(), boardFile.getStrFileNm());
+        if (!Files.isReadable(path)) {
+            log.warn("Stored file missing: fileId={}, path={}", boardFile.getFileId(), path);
+            return ResponseEntity.notFound().build();
+        }
+
+        long maxAge = Math.max(0, download.expiresAt() - System.currentTimeMillis() / 1000);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=" + maxAge);
+        String encodedUploadFileName = URLEncoder.encode(boardFile.getOrgFileNm(), StandardCharsets.UTF_8)
+                .replace("+", "%20");
+
+        return fileDownloadHandler.serve(path, "\"" + download.etag() + "\"", encodedUploadFileName, request,
+                response, () -> boardCounterService.incrementDownload(boardFile.getFileId()));
     }
 
     @Operation(summary = "게시물 삭제")
@@ -0,0 +1,32 @@
+package com.example.springrest.domain.boards.board.controller;
+
+import com.example.springrest.domain.boards.board.model.dto.BoardFileMigrationResult;
+import com.example.springrest.domain.boards.board.service.BoardFileMigrationService;
+import com.example.springrest.global.model.dto.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Board - File Management", description = "첨부파일 저장소 관리 API")
+@RestController
+@RequestMapping("/api/v1/mgmt/boards/files")
+@RequiredArgsConstructor
+public class BoardFileAdminController {
+
+    private final BoardFileMigrationService boardFileMigrationService;
+
+    @Operation(summary = "첨부파일 저장 위치 이전", description = "평면 경로의 기존 파일을 분산 저장소로 배치 이전 (응답의 lastFileId로 이어서 실행)")
+    @PostMapping("/migrate")
+    public ResponseEntity<ApiResponse<BoardFileMigrationResult>> migrate(
+            @RequestParam(required = false) Integer afterFileId,
+            @RequestParam(defaultValue = "500") int batchSize,
+            @RequestParam(defaultValue = "1") int maxBatches) {
+        return ResponseEntity.ok(ApiResponse.success(
+                boardFileMigrationService.migrate(afterFileId, batchSize, maxBatches)));
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.springrest.domain.boards.board.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 삭제 게시물 보관 실행 결과
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardArchiveResult {
+    private int files;      // 보관 테이블로 이동한 첨부파일 행 수
+    private int boards;     // 보관 테이블로 이동한 게시물 수
+    private int comments;   // 게시물과 함께 이동한 댓글 수
+    private boolean done;   // 남은 보관 대상이 없는지 여부 (false면 다음 실행에서 이어서 처리)
+}
@@ -0,0 +1,20 @@
+package com.example.springrest.domain.boards.board.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시물 첨부/댓글 수 재계산 실행 결과
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardCountRebuildResult {
+    private int batches;          // 실행한 배치 수
+    private int repaired;         // 값이 달라 갱신한 게시물 수
+    private Integer lastBoardId;  // 마지막 처리 BOARD_ID (다음 실행의 afterBoardId)
+    private boolean done;         // 마지막 게시물까지 처리 여부
+}
@@ -0,0 +1,21 @@
+package com.example.springrest.domain.boards.board.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 첨부파일 저장 위치 이전 실행 결과
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardFileMigrationResult {
+    private int migrated;        // 이전 완료 건수
+    private int skipped;         // 동시 변경으로 건너뛴 건수
+    private int failed;          // 파일 없음/오류 건수
+    private Integer lastFileId;  // 마지막 처리 FILE_ID (다음 실행의 afterFileId)
+    private long remaining;      // 남은 이전 대상 건수 (실패 건 포함)
+}
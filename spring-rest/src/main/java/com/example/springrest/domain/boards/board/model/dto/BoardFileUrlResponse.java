@@ -0,0 +1,19 @@
+package com.example.springrest.domain.boards.board.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 서명된 첨부파일 다운로드 URL 응답
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardFileUrlResponse {
+    private Integer fileId;
+    private String url;
+    private Long expiresAt; // 만료 시각 (epoch 초)
+}
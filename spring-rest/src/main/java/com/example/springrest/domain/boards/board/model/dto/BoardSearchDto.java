@@ -11,8 +11,10 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class BoardSearchDto {
     private String brdId; // 게시판 ID (필수)
-    private String searchType; // 검색 유형 (title, contents, userId)
-    private String keyword; // 검색어
+    private String searchType; // 검색 유형 (title, contents, userId, fulltext)
+    private String keyword; // 검색어 (fulltext: 웹 검색 문법 - "구문", OR, -제외)
+    private String sort; // 정렬 (latest: 최신순(기본), relevance: 관련도순 - fulltext 전용)
+    private boolean highlight; // 본문 하이라이트 스니펫 포함 여부 (fulltext 전용)
     private String startDate; // 시작일
     private String endDate; // 종료일
 
@@ -20,4 +22,7 @@ public class BoardSearchDto {
     // mapper
     private int offset;
     private int limit;
+
+    // 커서 페이징 seek 기준 (서비스에서 커서를 디코딩하여 설정)
+    private Integer cursorBoardId;
 }
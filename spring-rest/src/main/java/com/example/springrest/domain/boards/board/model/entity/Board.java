@@ -1,5 +1,6 @@
 package com.example.springrest.domain.boards.board.model.entity;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -23,14 +24,30 @@ public class Board {
     private String brdId; // 게시판 ID
     private String userId; // 작성자 ID
     private String title; // 제목
-    private String contents; // 내용
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String contents; // 내용 (목록 조회 시 제외)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String excerpt; // 본문 평문 요약 (목록 표시용)
     private Integer hitCnt; // 조회수
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer fileCnt; // 첨부파일 수 (목록 조회 시에만)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer commentCnt; // 댓글 수 (목록 조회 시에만)
     private String secretYn; // 비밀글 여부
     private String useYn; // 사용 여부
     private LocalDateTime sysInsertDtm; // 등록 일시
     private String sysInsertUserId; // 등록자 ID (작성자 ID와 중복될 수 있으나 스키마 따름)
     private LocalDateTime sysUpdateDtm; // 수정 일시
     private String sysUpdateUserId; // 수정자 ID
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private LocalDateTime lastActivityDtm; // 마지막 활동 일시 (수정/첨부/댓글, 목록 조회 시에만)
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<BoardFile> fileList; // 첨부파일 목록 (DB 컬럼 아님, 매퍼에서 매핑 필요)
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Float searchRank; // 검색 관련도 (fulltext 검색 시에만)
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String highlight; // 본문 하이라이트 스니펫 (HTML 이스케이프된 본문, 일치 단어만 <mark>로 감쌈, fulltext 검색 시에만)
 }
@@ -1,5 +1,6 @@
 package com.example.springrest.domain.boards.board.model.entity;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -18,10 +19,14 @@ public class BoardFile {
     private Long fileSize;
     private String fileExt;
     private String mimeType;
+    private String fileHash;
     private Integer downCnt;
     private String useYn;
     private LocalDateTime sysInsertDtm;
     private String sysInsertUserId;
     private LocalDateTime sysUpdateDtm;
     private String sysUpdateUserId;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String downloadUrl; // 서명된 다운로드 URL (상세 조회 시)
 }
@@ -0,0 +1,18 @@
+package com.example.springrest.domain.boards.board.repository;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface BoardArchiveMapper {
+    int archiveFiles(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    List<Integer> lockArchivableBoards(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    int archiveComments(@Param("boardIds") List<Integer> boardIds);
+
+    int archiveBoards(@Param("boardIds") List<Integer> boardIds);
+}
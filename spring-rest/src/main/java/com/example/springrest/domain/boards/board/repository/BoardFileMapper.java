@@ -4,17 +4,50 @@ import com.example.springrest.domain.boards.board.model.entity.BoardFile;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Mapper
 public interface BoardFileMapper {
     void insert(BoardFile boardFile);
 
+    int insertAll(List<BoardFile> boardFiles);
+
     List<BoardFile> findByBoardId(Integer boardId);
 
+    int countByBoardId(Integer boardId);
+
     BoardFile findById(Integer fileId);
 
+    List<BoardFile> findByIds(@Param("boardId") Integer boardId, @Param("fileIds") List<Integer> fileIds);
+
     void delete(Integer fileId);
 
-    void deleteByBoardId(Integer boardId);
+    int deleteByBoardId(Integer boardId);
+
+    int deleteAll(@Param("boardId") Integer boardId, @Param("fileIds") List<Integer> fileIds);
+
+    int countByBlob(@Param("filePath") String filePath, @Param("strFileNm") String strFileNm);
+
+    List<String> findReferencedBlobs(@Param("filePath") String filePath,
+            @Param("strFileNms") List<String> strFileNms);
+
+    List<BoardFile> findPurgeCandidates(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    int markPurged(@Param("filePath") String filePath, @Param("strFileNm") String strFileNm);
+
+    List<BoardFile> findLegacyFiles(@Param("afterFileId") Integer afterFileId, @Param("limit") int limit);
+
+    long countLegacyFiles();
+
+    int updateLocation(@Param("fileId") Integer fileId, @Param("filePath") String filePath,
+            @Param("strFileNm") String strFileNm, @Param("fileHash") String fileHash,
+            @Param("prevFilePath") String prevFilePath, @Param("prevStrFileNm") String prevStrFileNm);
+
+    List<BoardFile> findMigratedBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    int clearPrevLocation(@Param("fileId") Integer fileId);
+
+    int addDownCounts(@Param("deltas") Map<Integer, Long> deltas);
 }
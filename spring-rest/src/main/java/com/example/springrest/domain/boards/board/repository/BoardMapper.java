@@ -3,19 +3,44 @@ package com.example.springrest.domain.boards.board.repository;
 import com.example.springrest.domain.boards.board.model.dto.BoardSearchDto;
 import com.example.springrest.domain.boards.board.model.entity.Board;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
+import java.util.Map;
 
 @Mapper
 public interface BoardMapper {
     Board findById(@Param("boardId") Integer boardId);
 
+    Board findDetailById(@Param("boardId") Integer boardId);
+
     List<Board> findAll(BoardSearchDto searchDto);
 
+    List<Board> findAllByCursor(BoardSearchDto searchDto);
+
+    Cursor<Board> exportAll(BoardSearchDto searchDto);
+
+    List<Board> findHighlights(@Param("boardIds") List<Integer> boardIds, @Param("keyword") String keyword);
+
+    List<String> explainCount(@Param("brdId") String brdId);
+
     int insert(Board board);
 
+    int insertAll(@Param("list") List<Board> boards);
+
     int update(Board board);
 
+    int touch(@Param("boardId") Integer boardId);
+
     int delete(@Param("boardId") Integer boardId);
+
+    int addActivityCounts(@Param("boardId") Integer boardId, @Param("fileDelta") int fileDelta,
+            @Param("commentDelta") int commentDelta);
+
+    Integer findRebuildBoundary(@Param("afterBoardId") int afterBoardId, @Param("limit") int limit);
+
+    int rebuildActivityCounts(@Param("afterBoardId") int afterBoardId, @Param("toBoardId") int toBoardId);
+
+    int addHitCounts(@Param("deltas") Map<Integer, Long> deltas);
 }
@@ -0,0 +1,123 @@
+package com.example.springrest.domain.boards.board.service;
+
+import com.example.springrest.domain.boards.board.model.dto.BoardArchiveResult;
+import com.example.springrest.domain.boards.board.repository.BoardArchiveMapper;
+import com.example.springrest.global.config.BoardArchiveProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 삭제된 게시물/첨부파일 보관(archive) 서비스
+ * 보관 기간이 지난 삭제 행(USE_YN = '0')을 *_ARCHIVE 테이블로 옮겨 원본 테이블과 인덱스를 사용 중 행 위주로 유지
+ * 배치마다 짧은 트랜잭션에서 DELETE ... RETURNING으로 이동하며, 잠긴 행은 건너뛰어(SKIP LOCKED) 일반 요청을 기다리게 하지 않음
+ * 첨부파일 행은 GC가 더 이상 필요로 하지 않는 행(blob 정리 완료 또는 같은 blob의 사용 중 행 존재)만 이동
+ * 게시물은 남은 첨부파일 행이 없을 때 댓글과 함께 이동 (개별 삭제 댓글은 답글 CASCADE 때문에 이동하지 않음)
+ */
+@Slf4j
+@Service
+public class BoardArchiveService {
+
+    private static final int MAX_BATCH_SIZE = 5000;
+
+    private final BoardArchiveMapper boardArchiveMapper;
+    private final BoardArchiveProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter archivedFiles;
+    private final Counter archivedBoards;
+    private final Counter archivedComments;
+
+    public BoardArchiveService(BoardArchiveMapper boardArchiveMapper, BoardArchiveProperties properties,
+            TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.boardArchiveMapper = boardArchiveMapper;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+        this.archivedFiles = Counter.builder("board.archive.rows").tag("table", "file").register(meterRegistry);
+        this.archivedBoards = Counter.builder("board.archive.rows").tag("table", "board").register(meterRegistry);
+        this.archivedComments = Counter.builder("board.archive.rows").tag("table", "comment").register(meterRegistry);
+    }
+
+    /**
+     * 보관 기간이 지난 삭제 행 주기 이동
+     */
+    @Scheduled(fixedDelayString = "${app.board.archive.interval:86400000}",
+            initialDelayString = "${app.board.archive.interval:86400000}")
+    public void scheduledArchive() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            archive(properties.getBatchSize(), properties.getMaxBatches());
+        } catch (Exception e) {
+            log.error("Board archive failed", e);
+        }
+    }
+
+    /**
+     * 보관 배치 실행 (첨부파일 먼저 이동해야 해당 게시물이 보관 대상이 됨)
+     * 
+     * @param batchSize  배치당 최대 행 수
+     * @param maxBatches 테이블별 최대 배치 수
+     * @return 실행 결과
+     */
+    public synchronized BoardArchiveResult archive(int batchSize, int maxBatches) {
+        int limit = Math.min(Math.max(batchSize, 1), MAX_BATCH_SIZE);
+        int batches = Math.max(maxBatches, 1);
+        LocalDateTime before = LocalDateTime.now().minus(properties.getRetention());
+        BoardArchiveResult result = new BoardArchiveResult();
+
+        boolean filesDone = false;
+        for (int batch = 0; batch < batches; batch++) {
+            Integer moved = transactionTemplate.execute(status -> boardArchiveMapper.archiveFiles(before, limit));
+            int count = moved != null ? moved : 0;
+            result.setFiles(result.getFiles() + count);
+            if (count < limit) {
+                filesDone = true;
+                break;
+            }
+        }
+
+        boolean boardsDone = false;
+        for (int batch = 0; batch < batches; batch++) {
+            int count = archiveBoardBatch(before, limit, result);
+            if (count < limit) {
+                boardsDone = true;
+                break;
+            }
+        }
+        result.setDone(filesDone && boardsDone);
+
+        archivedFiles.increment(result.getFiles());
+        archivedBoards.increment(result.getBoards());
+        archivedComments.increment(result.getComments());
+        if (result.getFiles() > 0 || result.getBoards() > 0) {
+            log.info("Board archive: files={}, boards={}, comments={}, done={}",
+                    result.getFiles(), result.getBoards(), result.getComments(), result.isDone());
+        }
+        return result;
+    }
+
+    /**
+     * 게시물 한 배치 이동 (대상 잠금 -> 댓글 이동 -> 게시물 이동을 한 트랜잭션에서 실행)
+     * 
+     * @return 이번 배치에서 잠근 게시물 수
+     */
+    private int archiveBoardBatch(LocalDateTime before, int limit, BoardArchiveResult result) {
+        Integer locked = transactionTemplate.execute(status -> {
+            List<Integer> boardIds = boardArchiveMapper.lockArchivableBoards(before, limit);
+            if (boardIds.isEmpty()) {
+                return 0;
+            }
+            result.setComments(result.getComments() + boardArchiveMapper.archiveComments(boardIds));
+            result.setBoards(result.getBoards() + boardArchiveMapper.archiveBoards(boardIds));
+            return boardIds.size();
+        });
+        return locked != null ? locked : 0;
+    }
+}
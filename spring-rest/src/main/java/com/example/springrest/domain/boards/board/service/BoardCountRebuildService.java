@@ -0,0 +1,51 @@
+package com.example.springrest.domain.boards.board.service;
+
+import com.example.springrest.domain.boards.board.model.dto.BoardCountRebuildResult;
+import com.example.springrest.domain.boards.board.repository.BoardMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 게시물 비정규화 컬럼(FILE_CNT, COMMENT_CNT, LAST_ACTIVITY_DTM) 재계산 서비스
+ * 평소에는 첨부/댓글 변경 시 증감으로 유지하고, 직접 SQL 수정 등으로 어긋난 값을 복구할 때 사용
+ * BOARD_ID 범위 단위 짧은 UPDATE로 나누어 실행하여 잠금 범위와 시간을 제한
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoardCountRebuildService {
+
+    private static final int MAX_BATCH_SIZE = 5000;
+
+    private final BoardMapper boardMapper;
+
+    /**
+     * 재계산 배치 실행
+     * 
+     * @param afterBoardId 이 BOARD_ID 이후부터 처리 (처음이면 null)
+     * @param batchSize    배치당 게시물 수
+     * @param maxBatches   최대 배치 수
+     * @return 실행 결과
+     */
+    public synchronized BoardCountRebuildResult rebuild(Integer afterBoardId, int batchSize, int maxBatches) {
+        int limit = Math.min(Math.max(batchSize, 1), MAX_BATCH_SIZE);
+        BoardCountRebuildResult result = BoardCountRebuildResult.builder().lastBoardId(afterBoardId).build();
+
+        for (int batch = 0; batch < Math.max(maxBatches, 1); batch++) {
+            int from = result.getLastBoardId() != null ? result.getLastBoardId() : 0;
+            Integer to = boardMapper.findRebuildBoundary(from, limit);
+            if (to == null) {
+                result.setDone(true);
+                break;
+            }
+            result.setRepaired(result.getRepaired() + boardMapper.rebuildActivityCounts(from, to));
+            result.setBatches(result.getBatches() + 1);
+            result.setLastBoardId(to);
+        }
+
+        log.info("Board count rebuild: batches={}, repaired={}, lastBoardId={}, done={}",
+                result.getBatches(), result.getRepaired(), result.getLastBoardId(), result.isDone());
+        return result;
+    }
+}
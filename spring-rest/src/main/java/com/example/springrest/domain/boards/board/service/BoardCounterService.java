@@ -0,0 +1,202 @@
+package com.example.springrest.domain.boards.board.service;
+
+import com.example.springrest.domain.boards.board.model.entity.Board;
+import com.example.springrest.domain.boards.board.model.entity.BoardFile;
+import com.example.springrest.domain.boards.board.repository.BoardFileMapper;
+import com.example.springrest.domain.boards.board.repository.BoardMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 게시물 조회수/파일 다운로드수 지연 집계 서비스
+ * 증가분을 키별 LongAdder에 모아 두고 주기적으로 한 번의 UPDATE ... FROM (VALUES ...)로 반영
+ * 인기 게시물 조회마다 행 잠금이 발생하지 않도록 함
+ * 조회 시 미반영 증가분을 합산하여 실시간 값처럼 보이게 하며, 종료 시 남은 증가분을 반영
+ * 집계값은 근사치 (유휴 키 정리 순간 동시에 증가한 값은 드물게 누락될 수 있음)
+ */
+@Slf4j
+@Service
+public class BoardCounterService {
+
+    private static final int FLUSH_CHUNK_SIZE = 1000;
+
+    private final PendingCounter hits;
+    private final PendingCounter downloads;
+
+    public BoardCounterService(BoardMapper boardMapper, BoardFileMapper boardFileMapper,
+            MeterRegistry meterRegistry) {
+        this.hits = new PendingCounter("hit", boardMapper::addHitCounts, meterRegistry);
+        this.downloads = new PendingCounter("download", boardFileMapper::addDownCounts, meterRegistry);
+    }
+
+    /**
+     * 게시물 조회수 1 증가 (지연 반영)
+     */
+    public void incrementHit(Integer boardId) {
+        hits.increment(boardId);
+    }
+
+    /**
+     * 파일 다운로드수 1 증가 (지연 반영)
+     */
+    public void incrementDownload(Integer fileId) {
+        downloads.increment(fileId);
+    }
+
+    /**
+     * 게시물 조회수에 미반영 증가분 합산
+     */
+    public void applyPending(Board board) {
+        if (board != null) {
+            board.setHitCnt((int) (nullToZero(board.getHitCnt()) + hits.pending(board.getBoardId())));
+        }
+    }
+
+    /**
+     * 게시물 목록 조회수에 미반영 증가분 합산
+     */
+    public void applyPendingHits(List<Board> boards) {
+        if (hits.isEmpty()) {
+            return;
+        }
+        boards.forEach(this::applyPending);
+    }
+
+    /**
+     * 파일 목록 다운로드수에 미반영 증가분 합산
+     */
+    public void applyPendingDownloads(List<BoardFile> files) {
+        if (files == null || downloads.isEmpty()) {
+            return;
+        }
+        for (BoardFile file : files) {
+            file.setDownCnt((int) (nullToZero(file.getDownCnt()) + downloads.pending(file.getFileId())));
+        }
+    }
+
+    /**
+     * 누적된 증가분 DB 반영
+     */
+    @Scheduled(fixedDelayString = "${app.board.counter.flush-interval:5000}")
+    public synchronized void flush() {
+        hits.flush();
+        downloads.flush();
+    }
+
+    /**
+     * 종료 시 남은 증가분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private static long nullToZero(Integer value) {
+        return value != null ? value : 0;
+    }
+
+    /**
+     * 키별 증가분 누적기
+     */
+    private static final class PendingCounter {
+        private final String name;
+        private final Consumer<Map<Integer, Long>> writer;
+        private final ConcurrentHashMap<Integer, LongAdder> deltas = new ConcurrentHashMap<>();
+        private final AtomicLong lastFlushMillis = new AtomicLong(System.currentTimeMillis());
+        private final DistributionSummary batchSize;
+
+        private PendingCounter(String name, Consumer<Map<Integer, Long>> writer, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.writer = writer;
+            this.batchSize = DistributionSummary.builder("board.counter.flush.batch.size")
+                    .tag("counter", name)
+                    .register(meterRegistry);
+            Gauge.builder("board.counter.flush.lag", this,
+                    counter -> counter.deltas.isEmpty() ? 0 : System.currentTimeMillis() - counter.lastFlushMillis.get())
+                    .tag("counter", name)
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+            Gauge.builder("board.counter.pending.keys", deltas, Map::size)
+                    .tag("counter", name)
+                    .register(meterRegistry);
+        }
+
+        private void increment(Integer id) {
+            if (id == null) {
+                return;
+            }
+            LongAdder adder = deltas.get(id);
+            if (adder == null) {
+                adder = deltas.computeIfAbsent(id, key -> new LongAdder());
+            }
+            adder.increment();
+        }
+
+        private long pending(Integer id) {
+            LongAdder adder = id != null ? deltas.get(id) : null;
+            return adder != null ? adder.sum() : 0;
+        }
+
+        private boolean isEmpty() {
+            return deltas.isEmpty();
+        }
+
+        private void flush() {
+            Map<Integer, Long> batch = new LinkedHashMap<>();
+            for (Map.Entry<Integer, LongAdder> entry : deltas.entrySet()) {
+                LongAdder adder = entry.getValue();
+                long delta = adder.sumThenReset();
+                if (delta > 0) {
+                    batch.put(entry.getKey(), delta);
+                } else if (deltas.remove(entry.getKey(), adder)) {
+                    // 한 주기 동안 증가가 없던 키 정리 (제거 직전 증가분은 다시 누적)
+                    long late = adder.sumThenReset();
+                    if (late > 0) {
+                        deltas.computeIfAbsent(entry.getKey(), key -> new LongAdder()).add(late);
+                    }
+                }
+            }
+            if (batch.isEmpty()) {
+                lastFlushMillis.set(System.currentTimeMillis());
+                return;
+            }
+
+            Map<Integer, Long> chunk = new LinkedHashMap<>();
+            for (Map.Entry<Integer, Long> entry : batch.entrySet()) {
+                chunk.put(entry.getKey(), entry.getValue());
+                if (chunk.size() == FLUSH_CHUNK_SIZE) {
+                    write(chunk);
+                    chunk = new LinkedHashMap<>();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                write(chunk);
+            }
+            lastFlushMillis.set(System.currentTimeMillis());
+        }
+
+        private void write(Map<Integer, Long> chunk) {
+            try {
+                writer.accept(chunk);
+                batchSize.record(chunk.size());
+            } catch (RuntimeException e) {
+                // 실패한 증가분은 다음 주기에 다시 반영
+                chunk.forEach((id, delta) -> deltas.computeIfAbsent(id, key -> new LongAdder()).add(delta));
+                log.error("Board {} counter flush failed ({} keys): {}", name, chunk.size(), e.getMessage());
+            }
+        }
+    }
+}
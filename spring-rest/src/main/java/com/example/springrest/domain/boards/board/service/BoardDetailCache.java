@@ -0,0 +1,105 @@
+package com.example.springrest.domain.boards.board.service;
+
+import com.example.springrest.domain.boards.board.model.entity.Board;
+import com.example.springrest.global.config.BoardDetailCacheProperties;
+import com.example.springrest.global.model.dto.ApiResponse;
+import com.example.springrest.global.security.DownloadUrlSigner;
+import com.example.springrest.global.util.TransactionUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.format.DateTimeFormatter;
+import java.util.function.Function;
+
+/**
+ * 게시물 상세 응답 캐시
+ * ApiResponse로 감싼 상세 JSON을 직렬화된 바이트로 보관하여 재조회 시 DB 조회와 직렬화를 생략
+ * ETag는 게시물 SYS_UPDATE_DTM 기준 (첨부파일 변경 시에도 게시물 수정 일시를 갱신해야 함)
+ * 본문의 첨부파일 서명 URL은 만료되므로 서명 만료 구간도 ETag에 포함하고, 구간이 바뀐 항목은 다시 적재
+ * (If-None-Match 재검증으로 만료된 URL이 담긴 본문을 계속 쓰지 않도록 함)
+ * 조회수 등 카운터는 ETag에 포함하지 않으므로 약한(weak) ETag 사용
+ */
+@Component
+public class BoardDetailCache {
+
+    private static final DateTimeFormatter ETAG_TIME = DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSSSSS");
+
+    private final ObjectMapper objectMapper;
+    private final DownloadUrlSigner downloadUrlSigner;
+    private final Cache<Integer, Entry> cache;
+
+    public BoardDetailCache(ObjectMapper objectMapper, DownloadUrlSigner downloadUrlSigner,
+            BoardDetailCacheProperties properties, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.downloadUrlSigner = downloadUrlSigner;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxBytes())
+                .weigher((Integer boardId, Entry entry) -> entry.body().length)
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "board.detail");
+    }
+
+    /**
+     * 직렬화된 상세 응답 조회 (캐시 미스 시 loader로 조회 후 직렬화하여 저장)
+     * 
+     * @param boardId 게시물 일련번호
+     * @param loader  상세 조회 (없으면 null 반환, 캐시하지 않음)
+     * @return 캐시 항목 (게시물이 없으면 null)
+     */
+    public Entry get(Integer boardId, Function<Integer, Board> loader) {
+        long urlExpiresAt = downloadUrlSigner.currentExpiresAt();
+        Entry entry = cache.get(boardId, id -> load(id, loader, urlExpiresAt));
+        if (entry != null && entry.urlExpiresAt() < urlExpiresAt) {
+            // 이전 서명 구간에 적재된 항목: 새 URL로 다시 적재
+            entry = cache.asMap().compute(boardId, (id, current) -> current != null
+                    && current.urlExpiresAt() >= urlExpiresAt ? current : load(id, loader, urlExpiresAt));
+        }
+        return entry;
+    }
+
+    /**
+     * 게시물 캐시 무효화 (즉시 + 트랜잭션 커밋 후)
+     * 
+     * @param boardId 게시물 일련번호
+     */
+    public void invalidate(Integer boardId) {
+        cache.invalidate(boardId);
+        TransactionUtils.afterCommit(() -> cache.invalidate(boardId));
+    }
+
+    private Entry load(Integer boardId, Function<Integer, Board> loader, long urlExpiresAt) {
+        Board board = loader.apply(boardId);
+        return board != null ? serialize(board, urlExpiresAt) : null;
+    }
+
+    private Entry serialize(Board board, long urlExpiresAt) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(ApiResponse.success(board));
+            return new Entry(body, etagOf(board, urlExpiresAt), urlExpiresAt);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Board detail serialization failed: " + board.getBoardId(), e);
+        }
+    }
+
+    private String etagOf(Board board, long urlExpiresAt) {
+        String version = board.getSysUpdateDtm() != null ? ETAG_TIME.format(board.getSysUpdateDtm()) : "0";
+        return "W/\"" + board.getBoardId() + "-" + version + "-" + urlExpiresAt + "\"";
+    }
+
+    /**
+     * 직렬화된 응답 본문과 ETag
+     * 
+     * @param body         직렬화된 응답 본문
+     * @param etag         약한 ETag
+     * @param urlExpiresAt 적재 시점의 서명 URL 만료 구간 (epoch 초)
+     */
+    public record Entry(byte[] body, String etag, long urlExpiresAt) {
+    }
+}
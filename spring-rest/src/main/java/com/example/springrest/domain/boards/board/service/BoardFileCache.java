@@ -0,0 +1,63 @@
+package com.example.springrest.domain.boards.board.service;
+
+import com.example.springrest.domain.boards.board.model.entity.BoardFile;
+import com.example.springrest.domain.boards.board.repository.BoardFileMapper;
+import com.example.springrest.global.config.SignedUrlProperties;
+import com.example.springrest.global.util.TransactionUtils;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 첨부파일 행 캐시
+ * 서명 URL 다운로드에서 매 요청 DB 조회 없이 사용 여부/저장 위치/내용 식별자를 확인하기 위한 캐시
+ * 첨부파일 삭제/저장 위치 변경 시 즉시 + 커밋 후 두 번 무효화하여 커밋 전 재적재된 값이 남지 않도록 함
+ */
+@Component
+public class BoardFileCache {
+
+    private final BoardFileMapper boardFileMapper;
+    private final LoadingCache<Integer, Optional<BoardFile>> cache;
+
+    public BoardFileCache(BoardFileMapper boardFileMapper, SignedUrlProperties properties,
+            MeterRegistry meterRegistry) {
+        this.boardFileMapper = boardFileMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getFileCache().getMaximumSize())
+                .expireAfterWrite(properties.getFileCache().getTtl())
+                .recordStats()
+                .build(this::load);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "board.file");
+    }
+
+    /**
+     * 첨부파일 행 조회 (캐시 미스 시 DB 조회)
+     * 
+     * @param fileId 파일 일련번호
+     * @return 파일 행 (삭제된 행 포함), 없으면 empty
+     */
+    public Optional<BoardFile> get(Integer fileId) {
+        if (fileId == null) {
+            return Optional.empty();
+        }
+        return cache.get(fileId);
+    }
+
+    /**
+     * 첨부파일 캐시 무효화 (즉시 + 트랜잭션 커밋 후)
+     * 
+     * @param fileId 파일 일련번호
+     */
+    public void invalidate(Integer fileId) {
+        cache.invalidate(fileId);
+        TransactionUtils.afterCommit(() -> cache.invalidate(fileId));
+    }
+
+    private Optional<BoardFile> load(Integer fileId) {
+        return Optional.ofNullable(boardFileMapper.findById(fileId));
+    }
+}
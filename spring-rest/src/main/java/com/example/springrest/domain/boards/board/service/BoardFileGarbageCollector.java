@@ -0,0 +1,212 @@
+package com.example.springrest.domain.boards.board.service;
+
+import com.example.springrest.domain.boards.board.model.entity.BoardFile;
+import com.example.springrest.domain.boards.board.repository.BoardFileMapper;
+import com.example.springrest.global.config.FileUploadProperties;
+import com.example.springrest.global.util.FileContentCache;
+import com.example.springrest.global.util.FileStorage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * 미참조 첨부파일 blob 정리(GC) 서비스
+ * 첨부파일 행은 내용 해시로 blob을 공유하므로, 사용 중(USE_YN = '1') 참조가 모두 사라진 blob만
+ * 유예 기간이 지난 뒤 물리 삭제하고 해당 행들에 PURGE_DTM을 기록
+ * 유예 기간 중 같은 내용이 다시 업로드되면 blob 수정 시각이 갱신되어 삭제 대상에서 제외됨
+ * 롤백된 업로드처럼 행이 남지 않은 blob은 메모리 대기열로 받아 같은 기준으로 정리
+ * 저장 위치 이전(BoardFileMigrationService)으로 남은 기존 위치 파일도 유예 기간 후 삭제
+ * 물리 삭제는 FileStorage.purgeStoredFile로 삭제 대기 이름 변경 후 재확인하여 동시 업로드의 blob 재사용과 경합하지 않음
+ * 재시작으로 대기열이 사라져도 저장소 분산 디렉터리를 순환 검사하여 참조 없는 blob을 회수
+ */
+@Slf4j
+@Service
+public class BoardFileGarbageCollector {
+
+    private final BoardFileMapper boardFileMapper;
+    private final FileStorage fileStore;
+    private final FileContentCache fileContentCache;
+    private final FileUploadProperties.Gc properties;
+    private final Queue<Released> released = new ConcurrentLinkedQueue<>();
+    private final Counter purgedBlobs;
+    private final Counter purgedBytes;
+    private final Counter keptBlobs;
+    private int nextShard;
+
+    public BoardFileGarbageCollector(BoardFileMapper boardFileMapper, FileStorage fileStore,
+            FileContentCache fileContentCache, FileUploadProperties fileUploadProperties,
+            MeterRegistry meterRegistry) {
+        this.boardFileMapper = boardFileMapper;
+        this.fileStore = fileStore;
+        this.fileContentCache = fileContentCache;
+        this.properties = fileUploadProperties.getGc();
+        this.purgedBlobs = Counter.builder("board.file.gc.purged.blobs").register(meterRegistry);
+        this.purgedBytes = Counter.builder("board.file.gc.purged.bytes").register(meterRegistry);
+        this.keptBlobs = Counter.builder("board.file.gc.kept.blobs").register(meterRegistry);
+        // 재시작마다 같은 디렉터리부터 검사하지 않도록 임의 위치에서 시작
+        this.nextShard = ThreadLocalRandom.current().nextInt(Math.max(1, fileStore.blobShardCount()));
+        Gauge.builder("board.file.gc.released.pending", released, Queue::size).register(meterRegistry);
+    }
+
+    /**
+     * DB 반영에 실패한 업로드 blob을 정리 대기열에 등록 (다른 행이 참조하지 않으면 유예 기간 후 삭제)
+     * 
+     * @param boardFile 저장된 파일 정보
+     */
+    public void release(BoardFile boardFile) {
+        released.add(new Released(boardFile.getFilePath(), boardFile.getStrFileNm(), Instant.now()));
+    }
+
+    /**
+     * 유예 기간이 지난 미참조 blob 정리
+     */
+    @Scheduled(fixedDelayString = "${app.file.gc.interval:3600000}",
+            initialDelayString = "${app.file.gc.interval:3600000}")
+    public synchronized void collect() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Instant before = Instant.now().minus(properties.getGracePeriod());
+        try {
+            int purged = purgeDeleted(before) + purgeReleased(before) + purgeMigrated(before)
+                    + purgeOrphans(before);
+            int parts = fileStore.deleteStalePartFiles(before);
+            if (purged > 0 || parts > 0) {
+                log.info("Board file GC purged {} blobs, {} stale parts", purged, parts);
+            }
+        } catch (Exception e) {
+            log.error("Board file GC failed", e);
+        }
+    }
+
+    private int purgeDeleted(Instant before) {
+        List<BoardFile> candidates = boardFileMapper.findPurgeCandidates(
+                LocalDateTime.ofInstant(before, ZoneId.systemDefault()), properties.getBatchSize());
+        int purged = 0;
+        for (BoardFile candidate : candidates) {
+            if (!fileStore.isModifiedBefore(candidate.getFilePath(), candidate.getStrFileNm(), before)) {
+                continue;
+            }
+            // 사용 중 참조가 없음을 다시 확인하며 표시한 경우에만 물리 삭제
+            if (boardFileMapper.markPurged(candidate.getFilePath(), candidate.getStrFileNm()) > 0
+                    && purge(candidate.getFilePath(), candidate.getStrFileNm(), before,
+                            () -> isUnreferenced(candidate.getFilePath(), candidate.getStrFileNm()))) {
+                purged++;
+            }
+        }
+        return purged;
+    }
+
+    /**
+     * 저장 위치 이전 후 유예 기간이 지난 기존 위치 파일 삭제
+     */
+    private int purgeMigrated(Instant before) {
+        List<BoardFile> previous = boardFileMapper.findMigratedBefore(
+                LocalDateTime.ofInstant(before, ZoneId.systemDefault()), properties.getBatchSize());
+        int purged = 0;
+        for (BoardFile prev : previous) {
+            if (boardFileMapper.countByBlob(prev.getFilePath(), prev.getStrFileNm()) == 0) {
+                // 기존 위치 파일은 재사용되지 않으며, 하드 링크로 편입된 경우 수정 시각이 새 위치와 함께 바뀌므로 시각 조건 없이 삭제
+                if (!purge(prev.getFilePath(), prev.getStrFileNm(), Instant.MAX, () -> true)) {
+                    // 삭제 실패: 기존 위치를 지우면 다시 찾을 수 없으므로 남겨 두고 다음 주기에 재시도
+                    continue;
+                }
+                purged++;
+            }
+            boardFileMapper.clearPrevLocation(prev.getFileId());
+        }
+        return purged;
+    }
+
+    private int purgeReleased(Instant before) {
+        int purged = 0;
+        int pending = released.size();
+        for (int i = 0; i < pending; i++) {
+            Released blob = released.poll();
+            if (blob == null) {
+                break;
+            }
+            if (blob.releasedAt().isAfter(before)
+                    || !fileStore.isModifiedBefore(blob.filePath(), blob.strFileNm(), before)) {
+                released.add(blob);
+                continue;
+            }
+            if (boardFileMapper.countByBlob(blob.filePath(), blob.strFileNm()) == 0
+                    && purge(blob.filePath(), blob.strFileNm(), before,
+                            () -> boardFileMapper.countByBlob(blob.filePath(), blob.strFileNm()) == 0)) {
+                purged++;
+            }
+        }
+        return purged;
+    }
+
+    /**
+     * 저장소 분산 디렉터리를 순환하며 유예 기간이 지났고 참조가 남지 않은 blob 회수
+     * (재시작으로 대기열에서 사라진 롤백 업로드, 정리 표시 후 되살아났다가 다시 버려진 blob 등)
+     */
+    private int purgeOrphans(Instant before) {
+        int shardCount = fileStore.blobShardCount();
+        int purged = 0;
+        for (int i = 0; i < Math.min(properties.getOrphanScanShards(), shardCount); i++) {
+            int shard = nextShard;
+            nextShard = (nextShard + 1) % shardCount;
+
+            Map<String, List<String>> blobsByPath = fileStore.findBlobsModifiedBefore(shard, before).stream()
+                    .collect(Collectors.groupingBy(BoardFile::getFilePath,
+                            Collectors.mapping(BoardFile::getStrFileNm, Collectors.toList())));
+            for (Map.Entry<String, List<String>> entry : blobsByPath.entrySet()) {
+                String filePath = entry.getKey();
+                Set<String> referenced = new HashSet<>(
+                        boardFileMapper.findReferencedBlobs(filePath, entry.getValue()));
+                for (String strFileNm : entry.getValue()) {
+                    if (!referenced.contains(strFileNm)
+                            && purge(filePath, strFileNm, before, () -> isUnreferenced(filePath, strFileNm))) {
+                        purged++;
+                    }
+                }
+            }
+        }
+        return purged;
+    }
+
+    private boolean isUnreferenced(String filePath, String strFileNm) {
+        return boardFileMapper.findReferencedBlobs(filePath, List.of(strFileNm)).isEmpty();
+    }
+
+    /**
+     * blob 물리 삭제 (삭제 대기 이름으로 바꾼 뒤 재사용/참조가 확인되면 되돌림)
+     * 
+     * @return 삭제했으면 true
+     */
+    private boolean purge(String filePath, String strFileNm, Instant before, BooleanSupplier unreferenced) {
+        long bytes = fileStore.purgeStoredFile(filePath, strFileNm, before, unreferenced);
+        if (bytes < 0) {
+            keptBlobs.increment();
+            log.info("Board file GC kept reused blob: {}{}", filePath, strFileNm);
+            return false;
+        }
+        fileContentCache.invalidate(fileStore.getStoredPath(filePath, strFileNm));
+        purgedBytes.increment(bytes);
+        purgedBlobs.increment();
+        return true;
+    }
+
+    private record Released(String filePath, String strFileNm, Instant releasedAt) {
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.springrest.domain.boards.board.service;
+
+import com.example.springrest.domain.boards.board.model.dto.BoardFileMigrationResult;
+import com.example.springrest.domain.boards.board.model.entity.BoardFile;
+import com.example.springrest.domain.boards.board.repository.BoardFileMapper;
+import com.example.springrest.global.util.FileStorage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.util.List;
+
+/**
+ * 첨부파일 저장 위치 온라인 이전 서비스
+ * 평면 디렉터리(/board/)의 기존 파일을 분산 저장소로 배치 단위 편입 후 FILE_PATH를 변경
+ * 파일을 먼저 새 위치에 만들고(원본 유지) 행을 변경하므로 이전 중에도 다운로드가 계속 동작하며,
+ * 기존 파일은 발급된 서명 URL 등을 위해 유예 기간 후 BoardFileGarbageCollector가 삭제
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoardFileMigrationService {
+
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private final BoardFileMapper boardFileMapper;
+    private final FileStorage fileStore;
+    private final BoardDetailCache boardDetailCache;
+    private final BoardFileCache boardFileCache;
+
+    /**
+     * 이전 배치 실행
+     * 
+     * @param afterFileId 이 FILE_ID 이후부터 처리 (처음이면 null)
+     * @param batchSize   배치 크기
+     * @param maxBatches  최대 배치 수
+     * @return 실행 결과
+     */
+    public synchronized BoardFileMigrationResult migrate(Integer afterFileId, int batchSize, int maxBatches) {
+        int limit = Math.min(Math.max(batchSize, 1), MAX_BATCH_SIZE);
+        BoardFileMigrationResult result = BoardFileMigrationResult.builder().lastFileId(afterFileId).build();
+
+        for (int batch = 0; batch < Math.max(maxBatches, 1); batch++) {
+            List<BoardFile> files = boardFileMapper.findLegacyFiles(result.getLastFileId(), limit);
+            for (BoardFile file : files) {
+                migrate(file, result);
+                result.setLastFileId(file.getFileId());
+            }
+            if (files.size() < limit) {
+                break;
+            }
+        }
+
+        result.setRemaining(boardFileMapper.countLegacyFiles());
+        log.info("Board file migration: migrated={}, skipped={}, failed={}, lastFileId={}, remaining={}",
+                result.getMigrated(), result.getSkipped(), result.getFailed(), result.getLastFileId(),
+                result.getRemaining());
+        return result;
+    }
+
+    private void migrate(BoardFile file, BoardFileMigrationResult result) {
+        BoardFile adopted;
+        try {
+            adopted = fileStore.adopt(file.getFilePath(), file.getStrFileNm());
+        } catch (NoSuchFileException e) {
+            log.warn("Board file missing, not migrated: fileId={}, path={}{}", file.getFileId(),
+                    file.getFilePath(), file.getStrFileNm());
+            result.setFailed(result.getFailed() + 1);
+            return;
+        } catch (IOException e) {
+            log.error("Board file migration failed: fileId={}", file.getFileId(), e);
+            result.setFailed(result.getFailed() + 1);
+            return;
+        }
+
+        int updated = boardFileMapper.updateLocation(file.getFileId(), adopted.getFilePath(),
+                adopted.getStrFileNm(), adopted.getFileHash(), file.getFilePath(), file.getStrFileNm());
+        if (updated == 0) {
+            result.setSkipped(result.getSkipped() + 1);
+            return;
+        }
+        // 상세 응답의 서명 URL과 다운로드용 파일 행이 새 위치를 가리키도록 갱신
+        boardDetailCache.invalidate(file.getBoardId());
+        boardFileCache.invalidate(file.getFileId());
+        result.setMigrated(result.getMigrated() + 1);
+    }
+}
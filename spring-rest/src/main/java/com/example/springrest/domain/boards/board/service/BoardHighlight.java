@@ -0,0 +1,29 @@
+package com.example.springrest.domain.boards.board.service;
+
+import org.springframework.web.util.HtmlUtils;
+
+/**
+ * 하이라이트 스니펫 HTML 변환
+ * findHighlights가 제어 문자로 표시한 일치 구간만 mark 태그로 바꾸고 나머지 본문은 HTML 이스케이프
+ */
+final class BoardHighlight {
+
+    static final char START_MARKER = '\u0001';
+    static final char STOP_MARKER = '\u0002';
+
+    private BoardHighlight() {
+    }
+
+    /**
+     * @param snippet ts_headline 결과 (일치 구간이 START_MARKER/STOP_MARKER로 감싸짐)
+     * @return 본문은 이스케이프되고 일치 구간만 &lt;mark&gt;로 감싼 HTML (입력이 null이면 null)
+     */
+    static String toHtml(String snippet) {
+        if (snippet == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(snippet, "UTF-8")
+                .replace(String.valueOf(START_MARKER), "<mark>")
+                .replace(String.valueOf(STOP_MARKER), "</mark>");
+    }
+}
@@ -1,56 +1,275 @@
 package com.example.springrest.domain.boards.board.service;
 
+import com.example.springrest.domain.boards.board.model.dto.BoardFileUrlResponse;
 import com.example.springrest.domain.boards.board.model.dto.BoardRequest;
 import com.example.springrest.domain.boards.board.model.dto.BoardSearchDto;
 import com.example.springrest.domain.boards.board.model.entity.Board;
 import com.example.springrest.domain.boards.board.repository.BoardMapper;
+import com.example.springrest.domain.boards.master.model.entity.BoardMaster;
+import com.example.springrest.domain.boards.master.repository.BoardMasterMapper;
+import com.example.springrest.global.bulk.BulkImportResult;
+import com.example.springrest.global.bulk.BulkImporter;
+import com.example.springrest.global.bulk.BulkRecord;
+import com.example.springrest.global.export.ExportColumn;
+import com.example.springrest.global.export.ExportFormat;
+import com.example.springrest.global.export.StreamingExporter;
+import com.example.springrest.global.model.dto.CursorResponse;
 import com.example.springrest.global.model.dto.PageResponse;
-import com.github.pagehelper.PageHelper;
-import com.github.pagehelper.PageInfo;
+import com.example.springrest.global.paging.CountMode;
+import com.example.springrest.global.paging.CountSpec;
+import com.example.springrest.global.paging.PagedQueryExecutor;
+import com.example.springrest.global.security.DownloadUrlSigner;
+import com.example.springrest.global.util.CursorCodec;
+import com.example.springrest.global.util.TextExcerpts;
+import com.example.springrest.global.util.TransactionUtils;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.example.springrest.domain.boards.board.model.entity.BoardFile;
 import com.example.springrest.domain.boards.board.repository.BoardFileMapper;
-import com.example.springrest.global.util.FileStore;
+import com.example.springrest.global.util.FileContentCache;
+import com.example.springrest.global.util.FileStorage;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class BoardService {
 
+    private static final int MAX_CURSOR_SIZE = 100;
+    private static final String COUNT_SCOPE = "board";
+    private static final String FULLTEXT_SEARCH = "fulltext";
+    private static final List<ExportColumn<Board>> EXPORT_COLUMNS = List.of(
+            ExportColumn.of("boardId", Board::getBoardId),
+            ExportColumn.of("brdId", Board::getBrdId),
+            ExportColumn.of("userId", Board::getUserId),
+            ExportColumn.of("title", Board::getTitle),
+            ExportColumn.of("contents", Board::getContents),
+            ExportColumn.of("hitCnt", Board::getHitCnt),
+            ExportColumn.of("fileCnt", Board::getFileCnt),
+            ExportColumn.of("commentCnt", Board::getCommentCnt),
+            ExportColumn.of("secretYn", Board::getSecretYn),
+            ExportColumn.of("sysInsertDtm", Board::getSysInsertDtm),
+            ExportColumn.of("sysUpdateDtm", Board::getSysUpdateDtm),
+            ExportColumn.of("lastActivityDtm", Board::getLastActivityDtm));
+
     private final BoardMapper boardMapper;
     private final BoardFileMapper boardFileMapper;
-    private final FileStore fileStore;
+    private final FileStorage fileStore;
+    private final BoardCounterService boardCounterService;
+    private final PagedQueryExecutor pagedQueryExecutor;
+    private final BoardDetailCache boardDetailCache;
+    private final BoardFileCache boardFileCache;
+    private final BoardMasterMapper boardMasterMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final BoardFileGarbageCollector boardFileGarbageCollector;
+    private final DownloadUrlSigner downloadUrlSigner;
+    private final FileContentCache fileContentCache;
+    private final StreamingExporter streamingExporter;
+    private final BulkImporter bulkImporter;
+
+    public PageResponse<Board> getBoardList(int page, int size, BoardSearchDto searchDto, CountMode countMode) {
+        normalizeDates(searchDto);
+
+        PageResponse<Board> response = pagedQueryExecutor.fetch(page, size, null, countMode, countSpec(searchDto),
+                () -> boardMapper.findAll(searchDto));
+        boardCounterService.applyPendingHits(response.getList());
+        applyHighlights(response.getList(), searchDto);
+        return response;
+    }
 
-    public PageResponse<Board> getBoardList(int page, int size, BoardSearchDto searchDto) {
-        PageHelper.startPage(page, size);
+    /**
+     * fulltext 검색 하이라이트 스니펫 설정 (현재 페이지 게시물만 조회)
+     */
+    private void applyHighlights(List<Board> boards, BoardSearchDto searchDto) {
+        if (!searchDto.isHighlight() || !FULLTEXT_SEARCH.equals(searchDto.getSearchType())
+                || searchDto.getKeyword() == null || searchDto.getKeyword().isBlank() || boards.isEmpty()) {
+            return;
+        }
+        Map<Integer, String> highlights = boardMapper.findHighlights(
+                boards.stream().map(Board::getBoardId).toList(), searchDto.getKeyword()).stream()
+                .collect(Collectors.toMap(Board::getBoardId,
+                        board -> BoardHighlight.toHtml(Objects.toString(board.getHighlight(), ""))));
+        boards.forEach(board -> board.setHighlight(highlights.get(board.getBoardId())));
+    }
+
+    /**
+     * 건수 캐시 키 (정규화된 검색 조건), 검색어/기간이 없으면 플래너 추정 허용
+     */
+    private CountSpec countSpec(BoardSearchDto searchDto) {
+        boolean hasKeyword = searchDto.getKeyword() != null && !searchDto.getKeyword().isBlank();
+        String searchType = hasKeyword && searchDto.getSearchType() != null ? searchDto.getSearchType() : "";
+        String key = String.join("|", String.valueOf(searchDto.getBrdId()), searchType,
+                hasKeyword ? searchDto.getKeyword().trim() : "",
+                String.valueOf(searchDto.getStartDate()), String.valueOf(searchDto.getEndDate()));
+        boolean filtered = hasKeyword
+                || (searchDto.getStartDate() != null && !searchDto.getStartDate().isEmpty())
+                || (searchDto.getEndDate() != null && !searchDto.getEndDate().isEmpty());
+        return new CountSpec(COUNT_SCOPE, key, filtered ? null : () -> boardMapper.explainCount(searchDto.getBrdId()));
+    }
+
+    /**
+     * 게시물 목록 커서 조회 (BOARD_ID 내림차순 seek, 전체 건수 미조회)
+     * 
+     * @param cursor    이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size      페이지 크기
+     * @param searchDto 검색 조건
+     * @return 커서 응답
+     */
+    public CursorResponse<Board> getBoardListByCursor(String cursor, int size, BoardSearchDto searchDto) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_SIZE);
+        normalizeDates(searchDto);
+        searchDto.setCursorBoardId(CursorCodec.decodeInteger(cursor));
+        searchDto.setLimit(pageSize + 1);
+
+        List<Board> boards = boardMapper.findAllByCursor(searchDto);
+        CursorResponse<Board> response = CursorResponse.of(boards, pageSize, Board::getBoardId);
+        boardCounterService.applyPendingHits(response.getList());
+        applyHighlights(response.getList(), searchDto);
+        return response;
+    }
+
+    /**
+     * 게시물 내보내기 (검색 조건 전체를 응답 스트림에 직접 기록)
+     * 
+     * @param searchDto 검색 조건
+     * @param format    파일 형식
+     * @param gzip      gzip 압축 여부
+     * @param response  응답
+     */
+    public void exportBoards(BoardSearchDto searchDto, ExportFormat format, boolean gzip,
+            HttpServletResponse response) throws IOException {
+        normalizeDates(searchDto);
+        streamingExporter.export(response, "boards", format, gzip, EXPORT_COLUMNS,
+                session -> session.getMapper(BoardMapper.class).exportAll(searchDto));
+    }
+
+    /**
+     * 게시물 대량 가져오기 (이전 시스템 게시물 이관, CSV/NDJSON 스트리밍)
+     * 배치 단위 다중 행 INSERT로 저장하며 검증 실패 행은 행 번호와 함께 결과에 기록
+     * 
+     * @param in         입력 스트림
+     * @param format     입력 형식
+     * @param operatorId 실행자 ID (등록자로 기록)
+     * @return 가져오기 결과
+     */
+    public BulkImportResult importBoards(InputStream in, ExportFormat format, String operatorId) {
+        Map<String, Boolean> boardMasters = new HashMap<>();
+        BulkImportResult result = bulkImporter.run("boards", in, format,
+                record -> parseBoard(record, operatorId, boardMasters),
+                boards -> {
+                    boardMapper.insertAll(boards);
+                    return List.of();
+                });
+        if (result.getInserted() > 0) {
+            pagedQueryExecutor.invalidate(COUNT_SCOPE);
+        }
+        return result;
+    }
+
+    private Board parseBoard(BulkRecord record, String operatorId, Map<String, Boolean> boardMasters) {
+        String brdId = record.get("brdId");
+        if (brdId == null || !boardMasters.computeIfAbsent(brdId, id -> boardMasterMapper.findById(id) != null)) {
+            throw new IllegalArgumentException("게시판을 찾을 수 없습니다: " + brdId);
+        }
+        String title = record.get("title");
+        if (title == null || title.length() > 1000) {
+            throw new IllegalArgumentException("제목은 필수이며 1000자 이하여야 합니다");
+        }
+        String userId = record.get("userId");
+        if (userId == null) {
+            throw new IllegalArgumentException("작성자 ID는 필수입니다");
+        }
+        String secretYn = record.get("secretYn") != null ? record.get("secretYn") : "0";
+        if (!"0".equals(secretYn) && !"1".equals(secretYn)) {
+            throw new IllegalArgumentException("비밀글 여부는 0 또는 1이어야 합니다");
+        }
 
-        // Date handling if needed (adding time if only date provided)
+        String contents = record.get("contents");
+        return Board.builder()
+                .brdId(brdId)
+                .userId(userId)
+                .title(title)
+                .contents(contents)
+                .excerpt(TextExcerpts.excerpt(contents))
+                .hitCnt(parseInteger(record.get("hitCnt"), "hitCnt"))
+                .secretYn(secretYn)
+                .sysInsertDtm(parseDateTime(record.get("sysInsertDtm"), "sysInsertDtm"))
+                .sysInsertUserId(operatorId)
+                .sysUpdateDtm(parseDateTime(record.get("sysUpdateDtm"), "sysUpdateDtm"))
+                .sysUpdateUserId(operatorId)
+                .build();
+    }
+
+    private Integer parseInteger(String value, String name) {
+        try {
+            return value != null ? Integer.valueOf(value.strip()) : null;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " 값이 숫자가 아닙니다: " + value);
+        }
+    }
+
+    private LocalDateTime parseDateTime(String value, String name) {
+        try {
+            return value != null ? LocalDateTime.parse(value.strip().replace(' ', 'T')) : null;
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(name + " 일시 형식이 아닙니다 (yyyy-MM-dd HH:mm:ss): " + value);
+        }
+    }
+
+    // Date handling if needed (adding time if only date provided)
+    private void normalizeDates(BoardSearchDto searchDto) {
         if (searchDto.getStartDate() != null && !searchDto.getStartDate().isEmpty()) {
             searchDto.setStartDate(searchDto.getStartDate() + " 00:00:00");
         }
         if (searchDto.getEndDate() != null && !searchDto.getEndDate().isEmpty()) {
             searchDto.setEndDate(searchDto.getEndDate() + " 23:59:59");
         }
+    }
 
-        List<Board> boards = boardMapper.findAll(searchDto);
-        PageInfo<Board> pageInfo = new PageInfo<>(boards);
-
-        return PageResponse.of(pageInfo, boards);
+    /**
+     * 게시물 상세 조회 (직렬화된 응답 캐시 사용)
+     * 캐시 적중 시 DB 조회 없이 응답하며, 조회수는 지연 집계로 누적
+     * 
+     * @param boardId 게시물 일련번호
+     * @return 직렬화된 상세 응답과 ETag (게시물이 없으면 null)
+     */
+    public BoardDetailCache.Entry getBoardDetail(Integer boardId) {
+        BoardDetailCache.Entry entry = boardDetailCache.get(boardId, this::getBoard);
+        if (entry != null) {
+            boardCounterService.incrementHit(boardId);
+        }
+        return entry;
     }
 
+    /**
+     * 게시물과 첨부파일을 단일 조인 쿼리로 조회 (응답에는 미반영 조회수/다운로드수 포함)
+     */
     public Board getBoard(Integer boardId) {
-        // TODO: Hit count increment
-        Board board = boardMapper.findById(boardId);
+        Board board = boardMapper.findDetailById(boardId);
         if (board != null) {
-            board.setFileList(boardFileMapper.findByBoardId(boardId));
+            if (board.getFileList() == null) {
+                board.setFileList(new ArrayList<>());
+            }
+            boardCounterService.applyPending(board);
+            boardCounterService.applyPendingDownloads(board.getFileList());
+            board.getFileList().forEach(file -> file.setDownloadUrl(signDownload(file).url()));
         }
         return board;
     }
@@ -59,6 +278,55 @@ public class BoardService {
         return boardFileMapper.findById(fileId);
     }
 
+    /**
+     * 첨부파일 서명 다운로드 URL 발급
+     * 
+     * @param fileId 파일 일련번호
+     * @return URL과 만료 시각 (사용 중인 파일이 없으면 null)
+     */
+    public BoardFileUrlResponse getFileDownloadUrl(Integer fileId) {
+        BoardFile boardFile = boardFileMapper.findById(fileId);
+        if (boardFile == null || !"1".equals(boardFile.getUseYn())) {
+            return null;
+        }
+        DownloadUrlSigner.SignedDownload signed = signDownload(boardFile);
+        return BoardFileUrlResponse.builder()
+                .fileId(fileId)
+                .url(signed.url())
+                .expiresAt(signed.expiresAt())
+                .build();
+    }
+
+    /**
+     * 서명 URL 다운로드 대상 파일 조회
+     * 파일 행은 BoardFileCache에서 조회하여 다운로드 경로에서 DB 조회를 생략
+     * 
+     * @param download 검증된 서명 정보
+     * @return 사용 중이고 서명 당시와 내용 식별자가 같은 파일 (없으면 null)
+     */
+    public BoardFile getSignedDownloadFile(DownloadUrlSigner.SignedDownload download) {
+        BoardFile boardFile = boardFileCache.get(download.fileId()).orElse(null);
+        if (boardFile == null || !"1".equals(boardFile.getUseYn())
+                || !contentTag(boardFile).equals(download.etag())) {
+            return null;
+        }
+        return boardFile;
+    }
+
+    /**
+     * 첨부파일 내용 식별자 (ETag 값, 따옴표 제외)
+     * 내용 주소 저장 파일은 해시, 기존 파일은 (일련번호, 크기)
+     */
+    public static String contentTag(BoardFile boardFile) {
+        return boardFile.getFileHash() != null ? boardFile.getFileHash()
+                : boardFile.getFileId() + "-" + boardFile.getFileSize();
+    }
+
+    private DownloadUrlSigner.SignedDownload signDownload(BoardFile boardFile) {
+        return downloadUrlSigner.sign(
+                new DownloadUrlSigner.SignedDownload(boardFile.getFileId(), contentTag(boardFile), 0, null));
+    }
+
     @Transactional
     public void createBoard(BoardRequest request, List<MultipartFile> files) throws IOException {
         // TODO: Get real User ID from context
@@ -69,21 +337,19 @@ public class BoardService {
                 .userId(userId)
                 .title(request.getTitle())
                 .contents(request.getContents())
+                .excerpt(TextExcerpts.excerpt(request.getContents()))
                 .secretYn(request.getSecretYn() != null ? request.getSecretYn() : "0")
                 .useYn("1")
                 .sysInsertUserId(userId)
                 .sysUpdateUserId(userId)
                 .build();
         boardMapper.insert(board);
+        pagedQueryExecutor.invalidate(COUNT_SCOPE);
 
         // File Upload
         if (files != null && !files.isEmpty()) {
-            List<BoardFile> boardFiles = fileStore.storeFiles(files, board.getBoardId());
-            for (BoardFile boardFile : boardFiles) {
-                boardFile.setSysInsertUserId(userId);
-                boardFile.setSysUpdateUserId(userId);
-                boardFileMapper.insert(boardFile);
-            }
+            checkFileLimit(board, countNonEmpty(files));
+            storeAndInsertFiles(files, board.getBoardId(), userId);
         }
     }
 
@@ -98,39 +364,160 @@ public class BoardService {
 
         board.setTitle(request.getTitle());
         board.setContents(request.getContents());
+        board.setExcerpt(TextExcerpts.excerpt(request.getContents()));
         board.setSecretYn(request.getSecretYn() != null ? request.getSecretYn() : "0");
         board.setUseYn(request.getUseYn() != null ? request.getUseYn() : "1");
         board.setSysUpdateUserId(userId);
 
         boardMapper.update(board);
+        pagedQueryExecutor.invalidate(COUNT_SCOPE);
+        boardDetailCache.invalidate(boardId);
 
         // File Deletion
         if (request.getDeleteFileIds() != null && !request.getDeleteFileIds().isEmpty()) {
-            for (Integer fileId : request.getDeleteFileIds()) {
-                // Optional: Verify file belongs to board?
-                // For now, just delete
-                boardFileMapper.delete(fileId);
-                // TODO: Delete from physical storage if needed, or rely on batch cleanup
-            }
+            deleteFiles(boardId, request.getDeleteFileIds());
         }
 
         // File Upload (Append new files)
         if (files != null && !files.isEmpty()) {
-            List<BoardFile> boardFiles = fileStore.storeFiles(files, boardId);
-            for (BoardFile boardFile : boardFiles) {
-                boardFile.setSysInsertUserId(userId);
-                boardFile.setSysUpdateUserId(userId);
+            checkFileLimit(board, boardFileMapper.countByBoardId(boardId) + countNonEmpty(files));
+            storeAndInsertFiles(files, boardId, userId);
+        }
+    }
+
+    /**
+     * 첨부파일 병렬 저장 후 메타데이터 일괄 등록
+     * 저장 중 하나라도 실패하면 이미 저장된 파일은 GC 대기열로 반환되고 예외 전파,
+     * 이후 트랜잭션이 롤백되어도 저장된 파일은 GC 대기열로 반환
+     */
+    private void storeAndInsertFiles(List<MultipartFile> files, Integer boardId, String userId) throws IOException {
+        List<BoardFile> boardFiles = fileStore.storeFiles(files, boardId, boardFileGarbageCollector::release);
+        if (boardFiles.isEmpty()) {
+            return;
+        }
+        TransactionUtils.afterRollback(() -> boardFiles.forEach(boardFileGarbageCollector::release));
+        for (BoardFile boardFile : boardFiles) {
+            boardFile.setSysInsertUserId(userId);
+            boardFile.setSysUpdateUserId(userId);
+        }
+        boardFileMapper.insertAll(boardFiles);
+        boardMapper.addActivityCounts(boardId, boardFiles.size(), 0);
+    }
+
+    /**
+     * 첨부파일 일괄 삭제 (게시물 소속 확인 후 한 번의 UPDATE ... IN)
+     * 물리 파일은 BoardFileGarbageCollector가 참조가 모두 사라진 뒤 유예 기간 후 삭제
+     */
+    private void deleteFiles(Integer boardId, List<Integer> fileIds) {
+        List<Integer> distinctIds = fileIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinctIds.isEmpty()) {
+            return;
+        }
+        List<BoardFile> targets = boardFileMapper.findByIds(boardId, distinctIds);
+        if (targets.size() != distinctIds.size()) {
+            throw new IllegalArgumentException("게시물에 속하지 않은 첨부파일이 포함되어 있습니다: " + boardId);
+        }
+        int deleted = boardFileMapper.deleteAll(boardId, distinctIds);
+        if (deleted > 0) {
+            boardMapper.addActivityCounts(boardId, -deleted, 0);
+        }
+        targets.forEach(this::evictFileContent);
+    }
+
+    /**
+     * 첨부파일 스트리밍 업로드 (요청 본문을 최종 위치에 직접 기록)
+     * 저장 전 첨부 허용 여부/개수/Content-Length를 확인하고, 저장 중에는 크기 한도를 강제
+     * DB 반영은 저장 완료 후 짧은 트랜잭션에서 게시물 행을 잠근 채 개수를 재확인하여 수행
+     * (스트리밍 동안 DB 커넥션을 점유하지 않음), 실패 시 저장된 blob은 GC 대기열로 반환
+     * 
+     * @param boardId          게시물 일련번호
+     * @param originalFilename 원본 파일명
+     * @param contentType      MIME 타입
+     * @param contentLength    요청 본문 길이 (알 수 없으면 -1)
+     * @param in               요청 본문 스트림
+     * @return 저장된 파일 정보
+     */
+    public BoardFile uploadFile(Integer boardId, String originalFilename, String contentType, long contentLength,
+            InputStream in) throws IOException {
+        if (originalFilename == null || originalFilename.isBlank()) {
+            throw new IllegalArgumentException("파일명이 필요합니다");
+        }
+        Board board = boardMapper.findById(boardId);
+        if (board == null) {
+            throw new IllegalArgumentException("게시물을 찾을 수 없습니다: " + boardId);
+        }
+        checkFileLimit(board, boardFileMapper.countByBoardId(boardId) + 1);
+        fileStore.checkFileSize(contentLength);
+
+        BoardFile boardFile = fileStore.storeStream(in, originalFilename, contentType, boardId);
+        String userId = "admin"; // Default for now
+        boardFile.setSysInsertUserId(userId);
+        boardFile.setSysUpdateUserId(userId);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // 게시물 행 잠금 + 수정 일시 갱신 (상세 ETag 변경)
+                if (boardMapper.touch(boardId) == 0) {
+                    throw new IllegalArgumentException("게시물을 찾을 수 없습니다: " + boardId);
+                }
+                checkFileLimit(board, boardFileMapper.countByBoardId(boardId) + 1);
                 boardFileMapper.insert(boardFile);
-            }
+                boardMapper.addActivityCounts(boardId, 1, 0);
+                boardDetailCache.invalidate(boardId);
+            });
+        } catch (RuntimeException e) {
+            boardFileGarbageCollector.release(boardFile);
+            throw e;
+        }
+        return boardFile;
+    }
+
+    /**
+     * 게시판 설정(FILE_USE_YN, FILE_MAX_CNT) 기준 첨부 가능 여부 확인
+     * 
+     * @param board     게시물
+     * @param fileCount 반영 후 첨부파일 수
+     */
+    private void checkFileLimit(Board board, int fileCount) {
+        BoardMaster master = boardMasterMapper.findById(board.getBrdId());
+        if (master == null) {
+            return;
+        }
+        if ("0".equals(master.getFileUseYn())) {
+            throw new IllegalArgumentException("파일 첨부를 사용하지 않는 게시판입니다: " + board.getBrdId());
         }
+        if (master.getFileMaxCnt() != null && fileCount > master.getFileMaxCnt()) {
+            throw new IllegalArgumentException("첨부파일은 최대 " + master.getFileMaxCnt() + "개까지 등록할 수 있습니다");
+        }
+    }
+
+    private int countNonEmpty(List<MultipartFile> files) {
+        return (int) files.stream().filter(file -> !file.isEmpty()).count();
     }
 
     @Transactional
     public void deleteBoard(Integer boardId) {
         boardMapper.delete(boardId);
+        pagedQueryExecutor.invalidate(COUNT_SCOPE);
+        boardDetailCache.invalidate(boardId);
         // Files are logically deleted by cascade or we can explictly delete them if
         // needed
         // For now, let's explicitly delete them logically using mapper
-        boardFileMapper.deleteByBoardId(boardId);
+        boardFileMapper.findByBoardId(boardId).forEach(this::evictFileContent);
+        int deleted = boardFileMapper.deleteByBoardId(boardId);
+        if (deleted > 0) {
+            boardMapper.addActivityCounts(boardId, -deleted, 0);
+        }
+    }
+
+    /**
+     * 삭제된 첨부파일의 메모리 캐시 제거 (파일 행: 즉시 + 커밋 후, 내용: 커밋 후)
+     */
+    private void evictFileContent(BoardFile boardFile) {
+        if (boardFile != null) {
+            boardFileCache.invalidate(boardFile.getFileId());
+            Path path = fileStore.getStoredPath(boardFile.getFilePath(), boardFile.getStrFileNm());
+            TransactionUtils.afterCommit(() -> fileContentCache.invalidate(path));
+        }
     }
 }
@@ -0,0 +1,60 @@
+package com.example.springrest.domain.boards.comment.controller;
+
+import com.example.springrest.domain.boards.comment.model.dto.BoardCommentRequest;
+import com.example.springrest.domain.boards.comment.model.entity.BoardComment;
+import com.example.springrest.domain.boards.comment.service.BoardCommentService;
+import com.example.springrest.global.model.dto.ApiResponse;
+import com.example.springrest.global.model.dto.CursorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Board - Comment Management", description = "게시물 댓글 관리 API")
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/boards/board/{boardId}/comments")
+@RequiredArgsConstructor
+public class BoardCommentController {
+
+    private final BoardCommentService boardCommentService;
+
+    @Operation(summary = "댓글 스레드 조회", description = "최상위 댓글 기준 커서 페이징, 하위 댓글은 replies에 트리로 포함")
+    @GetMapping
+    public ResponseEntity<ApiResponse<CursorResponse<BoardComment>>> getComments(
+            @PathVariable Integer boardId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.success(boardCommentService.getThreads(boardId, cursor, size)));
+    }
+
+    @Operation(summary = "댓글 등록", description = "parentId 지정 시 대댓글로 등록")
+    @PostMapping
+    public ResponseEntity<ApiResponse<BoardComment>> createComment(@PathVariable Integer boardId,
+            @Valid @RequestBody BoardCommentRequest request) {
+        String userId = SecurityContextHolder.getContext().getAuthentication().getName();
+        return ResponseEntity.ok(ApiResponse.success(boardCommentService.createComment(boardId, request, userId)));
+    }
+
+    @Operation(summary = "댓글 수정")
+    @PutMapping("/{commentId}")
+    public ResponseEntity<ApiResponse<Void>> updateComment(@PathVariable Integer boardId,
+            @PathVariable Integer commentId, @Valid @RequestBody BoardCommentRequest request) {
+        String userId = SecurityContextHolder.getContext().getAuthentication().getName();
+        boardCommentService.updateComment(boardId, commentId, request, userId);
+        return ResponseEntity.ok(ApiResponse.success(null));
+    }
+
+    @Operation(summary = "댓글 삭제", description = "하위 댓글이 있으면 내용 없이 자리만 유지")
+    @DeleteMapping("/{commentId}")
+    public ResponseEntity<ApiResponse<Void>> deleteComment(@PathVariable Integer boardId,
+            @PathVariable Integer commentId) {
+        String userId = SecurityContextHolder.getContext().getAuthentication().getName();
+        boardCommentService.deleteComment(boardId, commentId, userId);
+        return ResponseEntity.ok(ApiResponse.success(null));
+    }
+}
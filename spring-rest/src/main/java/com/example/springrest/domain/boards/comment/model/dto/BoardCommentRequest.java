@@ -0,0 +1,20 @@
+package com.example.springrest.domain.boards.comment.model.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardCommentRequest {
+    private Integer parentId; // 부모 댓글 ID (최상위 댓글은 생략, 수정 시 무시)
+
+    @NotBlank(message = "댓글 내용은 필수입니다.")
+    @Size(max = 4000, message = "댓글은 4000자 이하여야 합니다.")
+    private String commentText;
+}
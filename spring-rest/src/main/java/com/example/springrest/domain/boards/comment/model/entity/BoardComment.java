@@ -0,0 +1,41 @@
+package com.example.springrest.domain.boards.comment.model.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시물 댓글 엔티티
+ * DB CHMM_BOARD_COMMENT 테이블과 매핑
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardComment {
+    private Integer commentId; // 댓글 일련번호
+    private Integer boardId; // 게시물 일련번호
+    private String userId; // 작성자 ID
+    private Integer parentId; // 부모 댓글 ID (최상위 댓글은 null)
+    private Integer depth; // 댓글 깊이 (최상위 0)
+    private String commentText; // 댓글 내용 (삭제된 댓글은 null)
+    private String useYn; // 사용 여부
+    private LocalDateTime sysInsertDtm; // 등록 일시
+    private String sysInsertUserId; // 등록자 ID
+    private LocalDateTime sysUpdateDtm; // 수정 일시
+    private String sysUpdateUserId; // 수정자 ID
+
+    @JsonIgnore
+    private Integer rootId; // 스레드 최상위 댓글 ID (DB 컬럼 아님, 스레드 조회 시에만)
+
+    @Builder.Default
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private List<BoardComment> replies = new ArrayList<>(); // 대댓글 목록 (DB 컬럼 아님)
+}
@@ -0,0 +1,26 @@
+package com.example.springrest.domain.boards.comment.repository;
+
+import com.example.springrest.domain.boards.comment.model.entity.BoardComment;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface BoardCommentMapper {
+    BoardComment findById(@Param("commentId") Integer commentId);
+
+    /**
+     * 최상위 댓글을 COMMENT_ID 오름차순 seek로 최대 size + 1건 가져오고,
+     * 앞의 size건에 대해서만 하위 댓글 전체를 재귀 조회하여 경로(PATH) 순으로 반환
+     */
+    List<BoardComment> findThreads(@Param("boardId") Integer boardId,
+            @Param("cursorCommentId") Integer cursorCommentId,
+            @Param("size") int size);
+
+    int insert(BoardComment comment);
+
+    int update(BoardComment comment);
+
+    int delete(@Param("commentId") Integer commentId, @Param("userId") String userId);
+}
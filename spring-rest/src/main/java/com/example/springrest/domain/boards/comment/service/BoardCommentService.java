@@ -0,0 +1,162 @@
+package com.example.springrest.domain.boards.comment.service;
+
+import com.example.springrest.domain.boards.board.model.entity.Board;
+import com.example.springrest.domain.boards.board.repository.BoardMapper;
+import com.example.springrest.domain.boards.comment.model.dto.BoardCommentRequest;
+import com.example.springrest.domain.boards.comment.model.entity.BoardComment;
+import com.example.springrest.domain.boards.comment.repository.BoardCommentMapper;
+import com.example.springrest.domain.boards.master.model.entity.BoardMaster;
+import com.example.springrest.domain.boards.master.repository.BoardMasterMapper;
+import com.example.springrest.global.model.dto.CursorResponse;
+import com.example.springrest.global.util.CursorCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시물 댓글 서비스
+ * 최상위 댓글 단위 커서 페이징, 페이지당 단일 쿼리로 하위 댓글까지 조회 후 한 번의 순회로 트리 구성
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BoardCommentService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final BoardCommentMapper boardCommentMapper;
+    private final BoardMapper boardMapper;
+    private final BoardMasterMapper boardMasterMapper;
+
+    /**
+     * 댓글 스레드 커서 조회
+     * 
+     * @param boardId 게시물 ID
+     * @param cursor  이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size    최상위 댓글 수
+     * @return 최상위 댓글 목록 (replies에 하위 댓글 트리 포함)
+     */
+    public CursorResponse<BoardComment> getThreads(Integer boardId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<BoardComment> rows = boardCommentMapper.findThreads(boardId, CursorCodec.decodeInteger(cursor), pageSize);
+        CursorResponse<BoardComment> response = CursorResponse.of(buildTree(rows), pageSize,
+                BoardComment::getCommentId);
+        response.getList().forEach(BoardCommentService::pruneDeleted);
+        return response;
+    }
+
+    /**
+     * PATH 순으로 정렬된 행을 한 번 순회하며 트리 구성
+     * 부모가 항상 자식보다 먼저 나오므로 부모는 이미 맵에 있음
+     */
+    private List<BoardComment> buildTree(List<BoardComment> rows) {
+        Map<Integer, BoardComment> byId = new HashMap<>(rows.size() * 2);
+        List<BoardComment> roots = new ArrayList<>();
+        for (BoardComment comment : rows) {
+            if (!"1".equals(comment.getUseYn())) {
+                comment.setCommentText(null);
+            }
+            byId.put(comment.getCommentId(), comment);
+            BoardComment parent = comment.getParentId() != null ? byId.get(comment.getParentId()) : null;
+            if (parent != null) {
+                parent.getReplies().add(comment);
+            } else {
+                roots.add(comment);
+            }
+        }
+        return roots;
+    }
+
+    /**
+     * 살아있는 하위 댓글이 없는 삭제 댓글 제거
+     * 
+     * @return 자신도 제거 대상이면 true
+     */
+    private static boolean pruneDeleted(BoardComment comment) {
+        comment.getReplies().removeIf(BoardCommentService::pruneDeleted);
+        return !"1".equals(comment.getUseYn()) && comment.getReplies().isEmpty();
+    }
+
+    /**
+     * 댓글 등록
+     * 
+     * @param boardId 게시물 ID
+     * @param request 댓글 내용 및 부모 댓글 ID
+     * @param userId  작성자 ID
+     * @return 등록된 댓글
+     */
+    @Transactional
+    public BoardComment createComment(Integer boardId, BoardCommentRequest request, String userId) {
+        Board board = boardMapper.findById(boardId);
+        if (board == null) {
+            throw new IllegalArgumentException("Board not found: " + boardId);
+        }
+        BoardMaster master = boardMasterMapper.findById(board.getBrdId());
+        if (master != null && "0".equals(master.getReplyUseYn())) {
+            throw new IllegalArgumentException("댓글을 사용하지 않는 게시판입니다: " + board.getBrdId());
+        }
+
+        int depth = 0;
+        if (request.getParentId() != null) {
+            BoardComment parent = boardCommentMapper.findById(request.getParentId());
+            if (parent == null || !boardId.equals(parent.getBoardId()) || !"1".equals(parent.getUseYn())) {
+                throw new IllegalArgumentException("Parent comment not found: " + request.getParentId());
+            }
+            depth = parent.getDepth() + 1;
+        }
+
+        BoardComment comment = BoardComment.builder()
+                .boardId(boardId)
+                .userId(userId)
+                .parentId(request.getParentId())
+                .depth(depth)
+                .commentText(request.getCommentText())
+                .useYn("1")
+                .sysInsertUserId(userId)
+                .sysUpdateUserId(userId)
+                .build();
+        boardCommentMapper.insert(comment);
+        boardMapper.addActivityCounts(boardId, 0, 1);
+        return comment;
+    }
+
+    /**
+     * 댓글 수정 (작성자 본인만)
+     */
+    @Transactional
+    public void updateComment(Integer boardId, Integer commentId, BoardCommentRequest request, String userId) {
+        BoardComment comment = findOwnComment(boardId, commentId, userId);
+        comment.setCommentText(request.getCommentText());
+        comment.setSysUpdateUserId(userId);
+        boardCommentMapper.update(comment);
+    }
+
+    /**
+     * 댓글 삭제 (작성자 본인만, 하위 댓글은 유지)
+     */
+    @Transactional
+    public void deleteComment(Integer boardId, Integer commentId, String userId) {
+        findOwnComment(boardId, commentId, userId);
+        if (boardCommentMapper.delete(commentId, userId) > 0) {
+            boardMapper.addActivityCounts(boardId, 0, -1);
+        }
+    }
+
+    private BoardComment findOwnComment(Integer boardId, Integer commentId, String userId) {
+        BoardComment comment = boardCommentMapper.findById(commentId);
+        if (comment == null || !boardId.equals(comment.getBoardId()) || !"1".equals(comment.getUseYn())) {
+            throw new IllegalArgumentException("Comment not found: " + commentId);
+        }
+        if (!comment.getUserId().equals(userId)) {
+            throw new IllegalArgumentException("본인이 작성한 댓글만 수정/삭제할 수 있습니다");
+        }
+        return comment;
+    }
+}
@@ -4,6 +4,7 @@ import com.example.springrest.global.model.dto.ApiResponse;
 import com.example.springrest.domain.boards.master.model.dto.BoardMasterRequest;
 import com.example.springrest.domain.boards.master.model.entity.BoardMaster;
 import com.example.springrest.global.model.dto.PageResponse;
+import com.example.springrest.global.paging.CountMode;
 import com.example.springrest.domain.boards.master.service.BoardMasterService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -29,9 +30,10 @@ public class BoardMasterController {
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String brdNm,
             @RequestParam(required = false) String startDate,
-            @RequestParam(required = false) String endDate) {
-        return ResponseEntity
-                .ok(ApiResponse.success(boardMasterService.getAllBoards(page, size, brdNm, startDate, endDate)));
+            @RequestParam(required = false) String endDate,
+            @RequestParam(required = false) CountMode countMode) {
+        return ResponseEntity.ok(ApiResponse.success(
+                boardMasterService.getAllBoards(page, size, brdNm, startDate, endDate, countMode)));
     }
 
     @Operation(summary = "게시판 상세 조회")
@@ -16,6 +16,8 @@ public interface BoardMasterMapper {
     List<BoardMaster> findAll(@Param("brdNm") String brdNm, @Param("startDate") String startDate,
             @Param("endDate") String endDate);
 
+    List<String> explainCount();
+
     int insert(BoardMaster boardMaster);
 
     int update(BoardMaster boardMaster);
@@ -4,8 +4,9 @@ import com.example.springrest.domain.boards.master.model.dto.BoardMasterRequest;
 import com.example.springrest.domain.boards.master.model.entity.BoardMaster;
 import com.example.springrest.domain.boards.master.repository.BoardMasterMapper;
 import com.example.springrest.global.model.dto.PageResponse;
-import com.github.pagehelper.PageHelper;
-import com.github.pagehelper.PageInfo;
+import com.example.springrest.global.paging.CountMode;
+import com.example.springrest.global.paging.CountSpec;
+import com.example.springrest.global.paging.PagedQueryExecutor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -21,11 +22,13 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BoardMasterService {
 
-    private final BoardMasterMapper boardMasterMapper;
+    private static final String COUNT_SCOPE = "boardMaster";
 
-    public PageResponse<BoardMaster> getAllBoards(int page, int size, String brdNm, String startDate, String endDate) {
-        PageHelper.startPage(page, size, "BRD_ID ASC");
+    private final BoardMasterMapper boardMasterMapper;
+    private final PagedQueryExecutor pagedQueryExecutor;
 
+    public PageResponse<BoardMaster> getAllBoards(int page, int size, String brdNm, String startDate, String endDate,
+            CountMode countMode) {
         if (startDate != null && !startDate.isEmpty()) {
             startDate = startDate + " 00:00:00";
         }
@@ -33,10 +36,15 @@ public class BoardMasterService {
             endDate = endDate + " 23:59:59";
         }
 
-        List<BoardMaster> boards = boardMasterMapper.findAll(brdNm, startDate, endDate);
-        PageInfo<BoardMaster> pageInfo = new PageInfo<>(boards);
+        String from = startDate;
+        String to = endDate;
+        boolean filtered = (brdNm != null && !brdNm.isEmpty()) || (from != null && !from.isEmpty())
+                || (to != null && !to.isEmpty());
+        CountSpec countSpec = new CountSpec(COUNT_SCOPE, String.join("|", String.valueOf(brdNm), from, to),
+                filtered ? null : boardMasterMapper::explainCount);
 
-        return PageResponse.of(pageInfo, boards);
+        return pagedQueryExecutor.fetch(page, size, "BRD_ID ASC", countMode, countSpec,
+                () -> boardMasterMapper.findAll(brdNm, from, to));
     }
 
     public BoardMaster getBoardById(String brdId) {
@@ -50,17 +58,20 @@ public class BoardMasterService {
         }
         BoardMaster board = convertToEntity(request);
         boardMasterMapper.insert(board);
+        pagedQueryExecutor.invalidate(COUNT_SCOPE);
     }
 
     @Transactional
     public void updateBoard(BoardMasterRequest request) {
         BoardMaster board = convertToEntity(request);
         boardMasterMapper.update(board);
+        pagedQueryExecutor.invalidate(COUNT_SCOPE);
     }
 
     @Transactional
     public void deleteBoard(String brdId) {
         boardMasterMapper.delete(brdId);
+        pagedQueryExecutor.invalidate(COUNT_SCOPE);
     }
 
     private BoardMaster convertToEntity(BoardMasterRequest request) {
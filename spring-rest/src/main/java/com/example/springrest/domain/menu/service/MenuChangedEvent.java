@@ -0,0 +1,10 @@
+package com.example.springrest.domain.menu.service;
+
+/**
+ * 메뉴 또는 역할-메뉴 매핑 변경 이벤트
+ * 트랜잭션 커밋 후 메뉴 트리 인덱스 재구성에 사용
+ *
+ * @param source 변경 발생 위치 (로그용)
+ */
+public record MenuChangedEvent(String source) {
+}
@@ -3,11 +3,15 @@ package com.example.springrest.domain.menu.service;
 import com.example.springrest.domain.menu.model.dto.MenuInfoRequest;
 import com.example.springrest.domain.menu.model.entity.MenuInfo;
 import com.example.springrest.domain.menu.repository.MenuInfoMapper;
+import com.example.springrest.domain.user.model.entity.UserInfo;
+import com.example.springrest.domain.user.service.UserSnapshotCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -19,13 +23,26 @@ import java.util.List;
 public class MenuService {
 
     private final MenuInfoMapper menuInfoMapper;
+    private final MenuTreeIndex menuTreeIndex;
+    private final UserSnapshotCache userSnapshotCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<MenuInfo> getAllMenus() {
         return menuInfoMapper.findAll();
     }
 
+    /**
+     * 사용자 메뉴 조회
+     * 사용자 역할 조합으로 메모리 메뉴 트리 인덱스에서 조회 (DB 재귀 쿼리 미사용)
+     * 
+     * @param userId 사용자 아이디
+     * @return 메뉴 목록 (상위 메뉴 포함, 읽기 전용)
+     */
     public List<MenuInfo> getMenusByUserId(String userId) {
-        return menuInfoMapper.findByUserId(userId);
+        return userSnapshotCache.get(userId)
+                .map(UserInfo::getRoles)
+                .map(roles -> menuTreeIndex.getMenus(roles.stream().map(Enum::name).toList()))
+                .orElse(Collections.emptyList());
     }
 
     public MenuInfo getMenuById(String menuId) {
@@ -36,17 +53,20 @@ public class MenuService {
     public void createMenu(MenuInfoRequest request) {
         MenuInfo menu = convertToEntity(request);
         menuInfoMapper.insert(menu);
+        eventPublisher.publishEvent(new MenuChangedEvent("MenuService"));
     }
 
     @Transactional
     public void updateMenu(MenuInfoRequest request) {
         MenuInfo menu = convertToEntity(request);
         menuInfoMapper.update(menu);
+        eventPublisher.publishEvent(new MenuChangedEvent("MenuService"));
     }
 
     @Transactional
     public void deleteMenu(String menuId) {
         menuInfoMapper.delete(menuId);
+        eventPublisher.publishEvent(new MenuChangedEvent("MenuService"));
     }
 
     private MenuInfo convertToEntity(MenuInfoRequest request) {
@@ -0,0 +1,156 @@
+package com.example.springrest.domain.menu.service;
+
+import com.example.springrest.domain.menu.model.entity.MenuInfo;
+import com.example.springrest.domain.menu.repository.MenuInfoMapper;
+import com.example.springrest.domain.role.model.entity.RoleMenuMap;
+import com.example.springrest.domain.role.repository.RoleMenuMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * 역할 조합별 메뉴 트리 인덱스
+ * 전체 메뉴와 역할-메뉴 매핑을 한 번 읽어 메모리 스냅샷을 만들고,
+ * 정렬된 역할 조합을 키로 상위 메뉴까지 포함한 트리를 최초 조회 시 계산하여 재사용
+ * 변경 시 새 스냅샷을 만들어 원자적으로 교체 (읽기는 잠금 없이 해시 조회)
+ */
+@Slf4j
+@Component
+public class MenuTreeIndex {
+
+    private static final Comparator<MenuInfo> MENU_ORDER = Comparator
+            .comparing(MenuInfo::getMenuLvl, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(MenuInfo::getMenuSeq, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(MenuInfo::getMenuId);
+
+    private final MenuInfoMapper menuInfoMapper;
+    private final RoleMenuMapper roleMenuMapper;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    public MenuTreeIndex(MenuInfoMapper menuInfoMapper, RoleMenuMapper roleMenuMapper, MeterRegistry meterRegistry) {
+        this.menuInfoMapper = menuInfoMapper;
+        this.roleMenuMapper = roleMenuMapper;
+        Gauge.builder("menu.tree.role.sets", snapshot,
+                ref -> ref.get() != null ? ref.get().trees.size() : 0).register(meterRegistry);
+    }
+
+    /**
+     * 역할 조합에 해당하는 메뉴 목록 조회 (상위 메뉴 포함, MENU_LVL, MENU_SEQ 순)
+     * 반환 목록과 항목은 스냅샷 간 공유되므로 읽기 전용으로 사용
+     * 
+     * @param roleIds 역할 아이디 목록
+     * @return 메뉴 목록
+     */
+    public List<MenuInfo> getMenus(Collection<String> roleIds) {
+        if (roleIds == null || roleIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String roleKey = roleIds.stream().sorted().distinct().collect(Collectors.joining(","));
+        Snapshot current = current();
+        return current.trees.computeIfAbsent(roleKey, key -> current.buildTree(roleIds));
+    }
+
+    /**
+     * 메뉴 변경 트랜잭션 커밋 후 스냅샷 재구성
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuChanged(MenuChangedEvent event) {
+        log.debug("Menu tree rebuild requested by {}", event.source());
+        rebuild();
+    }
+
+    /**
+     * 스냅샷 재구성 후 원자적 교체
+     * 실패 시 스냅샷을 비워 다음 조회에서 다시 구성
+     */
+    public synchronized void rebuild() {
+        try {
+            snapshot.set(load());
+        } catch (RuntimeException e) {
+            snapshot.set(null);
+            log.error("Menu tree rebuild failed: {}", e.getMessage());
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot.get();
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot.get();
+            if (current == null) {
+                current = load();
+                snapshot.set(current);
+            }
+            return current;
+        }
+    }
+
+    private Snapshot load() {
+        long start = System.currentTimeMillis();
+        Map<String, MenuInfo> menusById = new HashMap<>();
+        for (MenuInfo menu : menuInfoMapper.findAll()) {
+            menusById.put(menu.getMenuId(), menu);
+        }
+        Map<String, List<String>> menuIdsByRole = new HashMap<>();
+        for (RoleMenuMap mapping : roleMenuMapper.findAll()) {
+            if ("1".equals(mapping.getUseYn())) {
+                menuIdsByRole.computeIfAbsent(mapping.getRoleId(), key -> new ArrayList<>()).add(mapping.getMenuId());
+            }
+        }
+        log.info("Menu tree index built: {} menus, {} roles in {} ms",
+                menusById.size(), menuIdsByRole.size(), System.currentTimeMillis() - start);
+        return new Snapshot(menusById, menuIdsByRole);
+    }
+
+    private static boolean isActive(MenuInfo menu) {
+        return menu != null && "1".equals(menu.getUseYn());
+    }
+
+    /**
+     * 불변 메뉴 스냅샷과 역할 조합별 트리 메모
+     */
+    private static final class Snapshot {
+        private final Map<String, MenuInfo> menusById;
+        private final Map<String, List<String>> menuIdsByRole;
+        private final Map<String, List<MenuInfo>> trees = new ConcurrentHashMap<>();
+
+        private Snapshot(Map<String, MenuInfo> menusById, Map<String, List<String>> menuIdsByRole) {
+            this.menusById = menusById;
+            this.menuIdsByRole = menuIdsByRole;
+        }
+
+        /**
+         * 역할에 직접 할당된 사용 메뉴 + 사용 중인 상위 메뉴 (미사용 상위에서 중단)
+         */
+        private List<MenuInfo> buildTree(Collection<String> roleIds) {
+            Map<String, MenuInfo> tree = new LinkedHashMap<>();
+            for (String roleId : roleIds) {
+                for (String menuId : menuIdsByRole.getOrDefault(roleId, Collections.emptyList())) {
+                    MenuInfo menu = menusById.get(menuId);
+                    while (isActive(menu) && tree.putIfAbsent(menu.getMenuId(), menu) == null) {
+                        menu = menu.getUpperMenuId() != null ? menusById.get(menu.getUpperMenuId()) : null;
+                    }
+                }
+            }
+            List<MenuInfo> menus = new ArrayList<>(tree.values());
+            menus.sort(MENU_ORDER);
+            return Collections.unmodifiableList(menus);
+        }
+    }
+}
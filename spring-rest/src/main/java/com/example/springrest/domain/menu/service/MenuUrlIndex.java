@@ -0,0 +1,210 @@
+package com.example.springrest.domain.menu.service;
+
+import com.example.springrest.domain.menu.model.entity.MenuInfo;
+import com.example.springrest.domain.menu.repository.MenuInfoMapper;
+import com.example.springrest.domain.role.model.entity.RoleMenuMap;
+import com.example.springrest.domain.role.repository.RoleMenuMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 메뉴 URI 권한 인덱스
+ * 사용 중인 메뉴 URI를 경로 세그먼트 트라이로 컴파일하고, 각 노드에 접근 가능한 역할 비트셋을 저장
+ * 요청 경로 검사는 경로 길이에 비례 (DB 조회 없음)
+ * 메뉴/역할-메뉴 매핑 변경 커밋 후 새 스냅샷으로 원자적 교체
+ */
+@Slf4j
+@Component
+public class MenuUrlIndex {
+
+    private final MenuInfoMapper menuInfoMapper;
+    private final RoleMenuMapper roleMenuMapper;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong lastBuildMillis = new AtomicLong();
+
+    public MenuUrlIndex(MenuInfoMapper menuInfoMapper, RoleMenuMapper roleMenuMapper, MeterRegistry meterRegistry) {
+        this.menuInfoMapper = menuInfoMapper;
+        this.roleMenuMapper = roleMenuMapper;
+        Gauge.builder("menu.url.index.build.time", lastBuildMillis, AtomicLong::get)
+                .baseUnit("milliseconds").register(meterRegistry);
+        Gauge.builder("menu.url.index.nodes", snapshot,
+                ref -> ref.get() != null ? ref.get().nodeCount : 0).register(meterRegistry);
+        Gauge.builder("menu.url.index.protected", snapshot,
+                ref -> ref.get() != null ? ref.get().protectedCount : 0).register(meterRegistry);
+    }
+
+    /**
+     * 경로 접근 허용 여부 확인
+     * 경로와 일치하는 가장 깊은 메뉴 URI 노드의 역할 비트셋으로 판정
+     * 어떤 메뉴 URI에도 해당하지 않는 경로는 메뉴 권한 대상이 아니므로 허용
+     * 
+     * @param path    메뉴 URI 기준 경로 (예: /users/admin)
+     * @param roleIds 호출자 역할 아이디 목록
+     * @return 접근 허용 여부
+     */
+    public boolean isAllowed(String path, Collection<String> roleIds) {
+        Snapshot current = current();
+        BitSet required = current.match(path);
+        if (required == null) {
+            return true;
+        }
+        for (String roleId : roleIds) {
+            Integer bit = current.roleBits.get(roleId);
+            if (bit != null && required.get(bit)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 메뉴 변경 트랜잭션 커밋 후 인덱스 재구성
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuChanged(MenuChangedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * 인덱스 재구성 후 원자적 교체
+     * 실패 시 스냅샷을 비워 다음 검사에서 다시 구성
+     */
+    public synchronized void rebuild() {
+        try {
+            snapshot.set(load());
+        } catch (RuntimeException e) {
+            snapshot.set(null);
+            log.error("Menu URL index rebuild failed: {}", e.getMessage());
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot.get();
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot.get();
+            if (current == null) {
+                current = load();
+                snapshot.set(current);
+            }
+            return current;
+        }
+    }
+
+    private Snapshot load() {
+        long start = System.currentTimeMillis();
+        Map<String, Integer> roleBits = new HashMap<>();
+        Map<String, BitSet> rolesByMenu = new HashMap<>();
+        for (RoleMenuMap mapping : roleMenuMapper.findAll()) {
+            if (!"1".equals(mapping.getUseYn())) {
+                continue;
+            }
+            int bit = roleBits.computeIfAbsent(mapping.getRoleId(), key -> roleBits.size());
+            rolesByMenu.computeIfAbsent(mapping.getMenuId(), key -> new BitSet()).set(bit);
+        }
+
+        Snapshot built = new Snapshot(roleBits);
+        List<MenuInfo> menus = menuInfoMapper.findAll();
+        for (MenuInfo menu : menus) {
+            if ("1".equals(menu.getUseYn()) && StringUtils.hasText(menu.getMenuUri())) {
+                built.add(menu.getMenuUri(), rolesByMenu.getOrDefault(menu.getMenuId(), new BitSet()));
+            }
+        }
+
+        long elapsed = System.currentTimeMillis() - start;
+        lastBuildMillis.set(elapsed);
+        log.info("Menu URL index built: {} protected URIs, {} nodes, {} roles in {} ms",
+                built.protectedCount, built.nodeCount, roleBits.size(), elapsed);
+        return built;
+    }
+
+    /**
+     * 경로 세그먼트 트라이 노드
+     * roles가 null이면 메뉴 URI가 아닌 중간 노드
+     */
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private BitSet roles;
+    }
+
+    /**
+     * 불변 인덱스 스냅샷 (구성 완료 후 변경하지 않음)
+     */
+    private static final class Snapshot {
+        private final Map<String, Integer> roleBits;
+        private final Node root = new Node();
+        private int nodeCount = 1;
+        private int protectedCount;
+
+        private Snapshot(Map<String, Integer> roleBits) {
+            this.roleBits = roleBits;
+        }
+
+        private void add(String uri, BitSet roles) {
+            Node node = root;
+            int start = 0;
+            int length = uri.length();
+            while (start < length) {
+                int end = uri.indexOf('/', start);
+                if (end < 0) {
+                    end = length;
+                }
+                if (end > start) {
+                    String segment = uri.substring(start, end);
+                    Node child = node.children.get(segment);
+                    if (child == null) {
+                        child = new Node();
+                        node.children.put(segment, child);
+                        nodeCount++;
+                    }
+                    node = child;
+                }
+                start = end + 1;
+            }
+            if (node.roles == null) {
+                node.roles = new BitSet();
+                protectedCount++;
+            }
+            // 같은 URI를 가진 메뉴가 여럿이면 어느 메뉴든 허용된 역할은 접근 가능
+            node.roles.or(roles);
+        }
+
+        private BitSet match(String path) {
+            Node node = root;
+            BitSet matched = root.roles;
+            int start = 0;
+            int length = path.length();
+            while (start < length) {
+                int end = path.indexOf('/', start);
+                if (end < 0) {
+                    end = length;
+                }
+                if (end > start) {
+                    node = node.children.get(path.substring(start, end));
+                    if (node == null) {
+                        break;
+                    }
+                    if (node.roles != null) {
+                        matched = node.roles;
+                    }
+                }
+                start = end + 1;
+            }
+            return matched;
+        }
+    }
+}
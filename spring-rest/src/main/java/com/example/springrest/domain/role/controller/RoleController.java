@@ -4,6 +4,7 @@ import com.example.springrest.global.model.dto.ApiResponse;
 import com.example.springrest.domain.role.model.dto.RoleInfoRequest;
 import com.example.springrest.domain.role.model.dto.RoleInfoResponse;
 import com.example.springrest.domain.role.model.dto.RoleMenuAssignRequest;
+import com.example.springrest.domain.role.model.dto.RoleUserAssignRequest;
 import com.example.springrest.domain.role.service.RoleService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -72,4 +73,10 @@ public class RoleController {
         roleService.assignMenus(request.getRoleId(), request.getMenuIds());
         return ResponseEntity.ok(ApiResponse.success(null));
     }
+
+    @Operation(summary = "역할 사용자 일괄 부여")
+    @PostMapping("/assign-users")
+    public ResponseEntity<ApiResponse<Integer>> assignUsers(@Valid @RequestBody RoleUserAssignRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(roleService.assignUsers(request.getRoleId(), request.getUserIds())));
+    }
 }
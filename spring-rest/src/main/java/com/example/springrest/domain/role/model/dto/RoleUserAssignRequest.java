@@ -0,0 +1,23 @@
+package com.example.springrest.domain.role.model.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 여러 사용자에게 하나의 역할 일괄 부여 요청 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoleUserAssignRequest {
+    @NotBlank(message = "역할 ID는 필수입니다")
+    private String roleId;
+
+    @NotEmpty(message = "사용자 ID 목록은 필수입니다")
+    private List<String> userIds;
+}
@@ -4,6 +4,7 @@ import com.example.springrest.domain.role.model.entity.RoleMenuMap;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -11,6 +12,8 @@ import java.util.List;
  */
 @Mapper
 public interface RoleMenuMapper {
+    List<RoleMenuMap> findAll();
+
     List<RoleMenuMap> findByRoleId(@Param("roleId") String roleId);
 
     List<RoleMenuMap> findByMenuId(@Param("menuId") String menuId);
@@ -20,4 +23,8 @@ public interface RoleMenuMapper {
     int delete(@Param("roleId") String roleId, @Param("menuId") String menuId);
 
     int deleteByRoleId(@Param("roleId") String roleId);
+
+    int insertAll(@Param("roleId") String roleId, @Param("menuIds") Collection<String> menuIds);
+
+    int deleteAll(@Param("roleId") String roleId, @Param("menuIds") Collection<String> menuIds);
 }
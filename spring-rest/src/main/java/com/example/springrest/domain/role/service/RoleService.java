@@ -1,17 +1,28 @@
 package com.example.springrest.domain.role.service;
 
+import com.example.springrest.domain.menu.service.MenuChangedEvent;
 import com.example.springrest.domain.role.model.dto.RoleInfoRequest;
 import com.example.springrest.domain.role.model.dto.RoleInfoResponse;
 import com.example.springrest.domain.role.model.entity.RoleInfo;
 import com.example.springrest.domain.role.model.entity.RoleMenuMap;
 import com.example.springrest.domain.role.repository.RoleInfoMapper;
 import com.example.springrest.domain.role.repository.RoleMenuMapper;
+import com.example.springrest.domain.user.repository.UserRoleMapper;
+import com.example.springrest.domain.user.service.UserSnapshotCache;
 import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.executor.BatchResult;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -22,8 +33,14 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class RoleService {
 
+    private static final int BULK_CHUNK_SIZE = 1000;
+
     private final RoleInfoMapper roleInfoMapper;
     private final RoleMenuMapper roleMenuMapper;
+    private final UserSnapshotCache userSnapshotCache;
+    private final ApplicationEventPublisher eventPublisher;
+    @Qualifier("batchSqlSessionTemplate")
+    private final SqlSessionTemplate batchSqlSessionTemplate;
 
     public List<RoleInfoResponse> getAllRoles() {
         return roleInfoMapper.findAll().stream()
@@ -58,19 +75,76 @@ public class RoleService {
     public void deleteRole(String roleId) {
         roleMenuMapper.deleteByRoleId(roleId);
         roleInfoMapper.delete(roleId);
+        userSnapshotCache.invalidateAll();
+        eventPublisher.publishEvent(new MenuChangedEvent("RoleService"));
     }
 
+    /**
+     * 역할 메뉴 동기화
+     * 현재 매핑과 비교하여 추가/삭제분만 반영 (변경 없으면 DB 쓰기 및 메뉴 인덱스 재구성 없음)
+     * 
+     * @param roleId  역할 아이디
+     * @param menuIds 부여할 메뉴 아이디 목록 (전체)
+     */
     @Transactional
     public void assignMenus(String roleId, List<String> menuIds) {
-        roleMenuMapper.deleteByRoleId(roleId);
-        for (String menuId : menuIds) {
-            RoleMenuMap mapping = RoleMenuMap.builder()
-                    .roleId(roleId)
-                    .menuId(menuId)
-                    .useYn("1")
-                    .build();
-            roleMenuMapper.insert(mapping);
+        Set<String> target = new LinkedHashSet<>(menuIds);
+        Set<String> active = new HashSet<>();
+        List<String> toRemove = new ArrayList<>();
+        for (RoleMenuMap mapping : roleMenuMapper.findByRoleId(roleId)) {
+            if (!target.contains(mapping.getMenuId())) {
+                toRemove.add(mapping.getMenuId());
+            } else if ("1".equals(mapping.getUseYn())) {
+                active.add(mapping.getMenuId());
+            }
+        }
+        target.removeAll(active);
+
+        if (toRemove.isEmpty() && target.isEmpty()) {
+            return;
+        }
+        if (!toRemove.isEmpty()) {
+            roleMenuMapper.deleteAll(roleId, toRemove);
+        }
+        if (!target.isEmpty()) {
+            roleMenuMapper.insertAll(roleId, target);
+        }
+        log.info("Menus synced for role {}: +{} -{}", roleId, target, toRemove);
+        eventPublisher.publishEvent(new MenuChangedEvent("RoleService"));
+    }
+
+    /**
+     * 여러 사용자에게 하나의 역할 일괄 부여
+     * BATCH 실행기로 청크 단위 다중 행 INSERT를 모아 한 트랜잭션에서 전송
+     * 존재하지 않는 사용자는 건너뜀
+     * 
+     * @param roleId  역할 아이디
+     * @param userIds 사용자 아이디 목록
+     * @return 반영된 매핑 건수
+     */
+    @Transactional
+    public int assignUsers(String roleId, List<String> userIds) {
+        // 같은 트랜잭션에서 기본(SIMPLE) 세션과 섞지 않도록 조회도 BATCH 세션으로 수행
+        if (batchSqlSessionTemplate.getMapper(RoleInfoMapper.class).findById(roleId) == null) {
+            throw new IllegalArgumentException("존재하지 않는 역할입니다: " + roleId);
+        }
+
+        List<String> distinctUserIds = userIds.stream().distinct().toList();
+        UserRoleMapper batchMapper = batchSqlSessionTemplate.getMapper(UserRoleMapper.class);
+        for (int from = 0; from < distinctUserIds.size(); from += BULK_CHUNK_SIZE) {
+            int to = Math.min(from + BULK_CHUNK_SIZE, distinctUserIds.size());
+            batchMapper.insertAllForRole(roleId, distinctUserIds.subList(from, to));
+        }
+
+        int assigned = 0;
+        for (BatchResult result : batchSqlSessionTemplate.flushStatements()) {
+            for (int count : result.getUpdateCounts()) {
+                assigned += Math.max(count, 0);
+            }
         }
+        log.info("Role {} assigned to {} of {} requested users", roleId, assigned, distinctUserIds.size());
+        userSnapshotCache.invalidateAll(distinctUserIds);
+        return assigned;
     }
 
     private RoleInfoResponse convertToResponse(RoleInfo entity) {
@@ -3,17 +3,28 @@ package com.example.springrest.domain.user.controller;
 import com.example.springrest.global.model.dto.ApiResponse;
 import com.example.springrest.domain.user.model.dto.UserInfoRequest;
 import com.example.springrest.domain.user.model.entity.UserInfo;
+import com.example.springrest.global.bulk.BulkImportResult;
+import com.example.springrest.global.bulk.BulkImporter;
+import com.example.springrest.global.export.ExportFormat;
+import com.example.springrest.global.model.dto.CursorResponse;
 import com.example.springrest.global.model.dto.PageResponse;
+import com.example.springrest.global.paging.CountMode;
 import com.example.springrest.domain.user.model.dto.UserRoleAssignRequest;
 import com.example.springrest.domain.user.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 
 @Tag(name = "User - User Management", description = "사용자 계정 관리 API")
@@ -32,9 +43,44 @@ public class UserController {
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String userName,
             @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestParam(required = false) CountMode countMode) {
+        return ResponseEntity.ok(ApiResponse.success(
+                userService.getAllUsers(page, size, userName, startDate, endDate, countMode)));
+    }
+
+    @Operation(summary = "사용자 목록 커서 조회")
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<UserInfo>>> getUsersByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String userName,
+            @RequestParam(required = false) String startDate,
             @RequestParam(required = false) String endDate) {
         return ResponseEntity
-                .ok(ApiResponse.success(userService.getAllUsers(page, size, userName, startDate, endDate)));
+                .ok(ApiResponse.success(userService.getAllUsersByCursor(cursor, size, userName, startDate, endDate)));
+    }
+
+    @Operation(summary = "사용자 내보내기", description = "검색 조건 전체를 CSV/NDJSON으로 스트리밍, 관리자 전용 (gzip=true 시 Content-Encoding: gzip)")
+    @GetMapping("/export")
+    public void exportUsers(
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(required = false) String userName,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            HttpServletResponse response) throws IOException {
+        userService.exportUsers(userName, startDate, endDate, format, gzip, response);
+    }
+
+    @Operation(summary = "사용자 대량 가져오기", description = "요청 본문(CSV 헤더 행 포함 또는 NDJSON)을 스트리밍으로 읽어 배치 저장, 이미 있는 사용자와 행 오류는 결과에 포함, 관리자 전용 (Content-Encoding: gzip 지원)")
+    @PostMapping("/import")
+    public ResponseEntity<ApiResponse<BulkImportResult>> importUsers(
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            HttpServletRequest request) throws IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return ResponseEntity.ok(ApiResponse.success(userService.importUsers(BulkImporter.requestBody(request), format,
+                authentication.getName(), AuthorityUtils.authorityListToSet(authentication.getAuthorities()))));
     }
 
     @Operation(summary = "사용자 상세 조회")
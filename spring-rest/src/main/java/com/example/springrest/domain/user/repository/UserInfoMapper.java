@@ -3,6 +3,7 @@ package com.example.springrest.domain.user.repository;
 import com.example.springrest.domain.user.model.entity.UserInfo;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.util.List;
 
@@ -16,9 +17,22 @@ public interface UserInfoMapper {
     List<UserInfo> findAll(@Param("userName") String userName, @Param("startDate") String startDate,
             @Param("endDate") String endDate);
 
+    List<UserInfo> findAllByCursor(@Param("userName") String userName, @Param("startDate") String startDate,
+            @Param("endDate") String endDate, @Param("cursorUserId") String cursorUserId,
+            @Param("limit") int limit);
+
+    Cursor<UserInfo> exportAll(@Param("userName") String userName, @Param("startDate") String startDate,
+            @Param("endDate") String endDate);
+
+    List<String> explainCount();
+
     int insert(UserInfo userInfo);
 
+    List<String> insertAllIgnoreExisting(@Param("list") List<UserInfo> users);
+
     int update(UserInfo userInfo);
 
+    int updatePassword(@Param("userId") String userId, @Param("userPwd") String userPwd);
+
     int delete(@Param("userId") String userId);
 }
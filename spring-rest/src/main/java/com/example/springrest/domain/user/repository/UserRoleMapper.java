@@ -4,6 +4,7 @@ import com.example.springrest.domain.user.model.entity.UserRoleMap;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -20,4 +21,10 @@ public interface UserRoleMapper {
     int delete(@Param("userId") String userId, @Param("roleId") String roleId);
 
     int deleteByUserId(@Param("userId") String userId);
+
+    int insertAll(@Param("userId") String userId, @Param("roleIds") Collection<String> roleIds);
+
+    int deleteAll(@Param("userId") String userId, @Param("roleIds") Collection<String> roleIds);
+
+    int insertAllForRole(@Param("roleId") String roleId, @Param("userIds") Collection<String> userIds);
 }
@@ -3,18 +3,41 @@ package com.example.springrest.domain.user.service;
 import com.example.springrest.domain.user.model.dto.UserInfoRequest;
 import com.example.springrest.domain.user.model.entity.UserInfo;
 import com.example.springrest.domain.user.model.entity.UserRoleMap;
+import com.example.springrest.domain.user.model.enums.UserRole;
 import com.example.springrest.domain.user.repository.UserInfoMapper;
 import com.example.springrest.domain.user.repository.UserRoleMapper;
+import com.example.springrest.global.bulk.BulkImportResult;
+import com.example.springrest.global.bulk.BulkImporter;
+import com.example.springrest.global.bulk.BulkRecord;
+import com.example.springrest.global.bulk.BulkWriter;
+import com.example.springrest.global.export.ExportColumn;
+import com.example.springrest.global.export.ExportFormat;
+import com.example.springrest.global.export.StreamingExporter;
+import com.example.springrest.global.model.dto.CursorResponse;
 import com.example.springrest.global.model.dto.PageResponse;
-import com.github.pagehelper.PageHelper;
-import com.github.pagehelper.PageInfo;
+import com.example.springrest.global.paging.CountMode;
+import com.example.springrest.global.paging.CountSpec;
+import com.example.springrest.global.paging.PagedQueryExecutor;
+import com.example.springrest.global.security.PasswordHasher;
+import com.example.springrest.global.util.CursorCodec;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * 사용자 정보 서비스
@@ -24,24 +47,209 @@ import java.util.List;
 @RequiredArgsConstructor
 public class UserService {
 
+    private static final int MAX_CURSOR_SIZE = 100;
+    private static final String COUNT_SCOPE = "user";
+    /** 가져오기 시 실행자가 같은 역할을 가진 경우에만 부여할 수 있는 역할 */
+    private static final Set<UserRole> PRIVILEGED_ROLES = EnumSet.of(UserRole.ROLE_ADMIN);
+    private static final List<ExportColumn<UserInfo>> EXPORT_COLUMNS = List.of(
+            ExportColumn.of("userId", UserInfo::getUserId),
+            ExportColumn.of("userName", UserInfo::getUserName),
+            ExportColumn.of("userNick", UserInfo::getUserNick),
+            ExportColumn.of("userEmail", UserInfo::getUserEmail),
+            ExportColumn.of("userMobile", UserInfo::getUserMobile),
+            ExportColumn.of("roles", UserInfo::getRoles),
+            ExportColumn.of("userStatCd", UserInfo::getUserStatCd),
+            ExportColumn.of("useYn", UserInfo::getUseYn),
+            ExportColumn.of("sysInsertDtm", UserInfo::getSysInsertDtm),
+            ExportColumn.of("sysUpdateDtm", UserInfo::getSysUpdateDtm));
+
     private final UserInfoMapper userInfoMapper;
     private final UserRoleMapper userRoleMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final TransactionTemplate transactionTemplate;
+    private final UserSnapshotCache userSnapshotCache;
+    private final PagedQueryExecutor pagedQueryExecutor;
+    private final StreamingExporter streamingExporter;
+    private final BulkImporter bulkImporter;
+
+    public PageResponse<UserInfo> getAllUsers(int page, int size, String userName, String startDate, String endDate,
+            CountMode countMode) {
+        String from = startOfDay(startDate);
+        String to = endOfDay(endDate);
+        boolean filtered = isPresent(userName) || isPresent(from) || isPresent(to);
+        CountSpec countSpec = new CountSpec(COUNT_SCOPE, String.join("|", String.valueOf(userName), from, to),
+                filtered ? null : userInfoMapper::explainCount);
+
+        return pagedQueryExecutor.fetch(page, size, "USER_ID ASC", countMode, countSpec,
+                () -> userInfoMapper.findAll(userName, from, to));
+    }
+
+    /**
+     * 사용자 목록 커서 조회 (USER_ID 오름차순 seek, 전체 건수 미조회)
+     * 
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기
+     * @return 커서 응답
+     */
+    public CursorResponse<UserInfo> getAllUsersByCursor(String cursor, int size, String userName, String startDate,
+            String endDate) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_SIZE);
+        List<UserInfo> users = userInfoMapper.findAllByCursor(userName, startOfDay(startDate), endOfDay(endDate),
+                CursorCodec.decode(cursor), pageSize + 1);
+        return CursorResponse.of(users, pageSize, UserInfo::getUserId);
+    }
+
+    /**
+     * 사용자 내보내기 (검색 조건 전체를 응답 스트림에 직접 기록, 비밀번호 제외)
+     * 
+     * @param userName  사용자명 검색어
+     * @param startDate 등록일 시작
+     * @param endDate   등록일 종료
+     * @param format    파일 형식
+     * @param gzip      gzip 압축 여부
+     * @param response  응답
+     */
+    public void exportUsers(String userName, String startDate, String endDate, ExportFormat format, boolean gzip,
+            HttpServletResponse response) throws IOException {
+        String from = startOfDay(startDate);
+        String to = endOfDay(endDate);
+        streamingExporter.export(response, "users", format, gzip, EXPORT_COLUMNS,
+                session -> session.getMapper(UserInfoMapper.class).exportAll(userName, from, to));
+    }
 
-    public PageResponse<UserInfo> getAllUsers(int page, int size, String userName, String startDate, String endDate) {
-        PageHelper.startPage(page, size, "USER_ID ASC");
+    /**
+     * 사용자 대량 가져오기 (CSV/NDJSON 스트리밍)
+     * 비밀번호는 배치 단위로 전용 스레드에서 병렬 해시하고, 저장은 다중 행 INSERT ... ON CONFLICT DO NOTHING으로 수행
+     * 이미 존재하는 USER_ID와 검증 실패 행은 건너뛰고 행 번호와 함께 결과에 기록
+     * 
+     * @param in         입력 스트림
+     * @param format     입력 형식
+     * @param operatorId    실행자 ID (등록자로 기록)
+     * @param operatorRoles 실행자 권한 (실행자에게 없는 관리 역할은 부여하지 않고 행 오류로 기록)
+     * @return 가져오기 결과
+     */
+    public BulkImportResult importUsers(InputStream in, ExportFormat format, String operatorId,
+            Set<String> operatorRoles) {
+        BulkImportResult result = bulkImporter.run("users", in, format,
+                record -> parseUser(record, operatorId, operatorRoles),
+                new BulkWriter<>() {
+                    @Override
+                    public void prepare(List<UserInfo> users) {
+                        List<String> hashes = passwordHasher
+                                .encodeAll(users.stream().map(UserInfo::getUserPwd).toList());
+                        for (int i = 0; i < users.size(); i++) {
+                            users.get(i).setUserPwd(hashes.get(i));
+                        }
+                    }
+
+                    @Override
+                    public List<UserInfo> write(List<UserInfo> users) {
+                        return insertUsers(users);
+                    }
+                });
+        if (result.getInserted() > 0) {
+            pagedQueryExecutor.invalidate(COUNT_SCOPE);
+        }
+        return result;
+    }
+
+    /**
+     * 사용자 배치 등록 및 역할 부여 (역할별 한 번의 INSERT)
+     * 
+     * @return 이미 존재하거나 배치 안에서 중복되어 등록하지 않은 사용자
+     */
+    private List<UserInfo> insertUsers(List<UserInfo> users) {
+        Map<String, UserInfo> unique = new LinkedHashMap<>();
+        List<UserInfo> existing = new ArrayList<>();
+        for (UserInfo user : users) {
+            if (unique.putIfAbsent(user.getUserId(), user) != null) {
+                existing.add(user);
+            }
+        }
+
+        Set<String> inserted = new HashSet<>(userInfoMapper.insertAllIgnoreExisting(new ArrayList<>(unique.values())));
+        Map<UserRole, List<String>> userIdsByRole = new EnumMap<>(UserRole.class);
+        for (UserInfo user : unique.values()) {
+            if (!inserted.contains(user.getUserId())) {
+                existing.add(user);
+                continue;
+            }
+            for (UserRole role : user.getRoles()) {
+                userIdsByRole.computeIfAbsent(role, key -> new ArrayList<>()).add(user.getUserId());
+            }
+            userSnapshotCache.invalidate(user.getUserId());
+        }
+        userIdsByRole.forEach((role, userIds) -> userRoleMapper.insertAllForRole(role.name(), userIds));
+        return existing;
+    }
+
+    private UserInfo parseUser(BulkRecord record, String operatorId, Set<String> operatorRoles) {
+        String userId = record.get("userId");
+        if (userId == null || userId.length() < 3 || userId.length() > 50) {
+            throw new IllegalArgumentException("사용자 ID는 3-50자여야 합니다");
+        }
+        if (record.get("userName") == null) {
+            throw new IllegalArgumentException("사용자 이름은 필수입니다");
+        }
+        String userPwd = record.get("userPwd");
+        if (userPwd == null || userPwd.length() < 4 || userPwd.length() > 100) {
+            throw new IllegalArgumentException("비밀번호는 4-100자여야 합니다");
+        }
+        String userEmail = record.get("userEmail");
+        if (userEmail != null && !userEmail.matches("^[^@\\s]+@[^@\\s]+$")) {
+            throw new IllegalArgumentException("유효한 이메일 형식이 아닙니다");
+        }
 
-        if (startDate != null && !startDate.isEmpty()) {
-            startDate = startDate + " 00:00:00";
+        Set<UserRole> roles = EnumSet.noneOf(UserRole.class);
+        String roleIds = record.get("roles");
+        if (roleIds != null) {
+            for (String roleId : roleIds.split("[;,]")) {
+                if (!roleId.isBlank()) {
+                    UserRole role = parseRole(roleId.strip());
+                    if (PRIVILEGED_ROLES.contains(role) && !operatorRoles.contains(role.name())) {
+                        throw new IllegalArgumentException("부여할 수 없는 역할입니다: " + role.name());
+                    }
+                    roles.add(role);
+                }
+            }
         }
-        if (endDate != null && !endDate.isEmpty()) {
-            endDate = endDate + " 23:59:59";
+
+        return UserInfo.builder()
+                .userId(userId)
+                .userEmail(userEmail)
+                .userMobile(record.get("userMobile"))
+                .userName(record.get("userName"))
+                .userNick(record.get("userNick"))
+                .userPwd(userPwd)
+                .userMsg(record.get("userMsg"))
+                .userDesc(record.get("userDesc"))
+                .userStatCd(record.get("userStatCd"))
+                .userSnsid(record.get("userSnsid"))
+                .useYn(record.get("useYn") != null ? record.get("useYn") : "1")
+                .roles(roles)
+                .sysInsertUserId(operatorId)
+                .sysUpdateUserId(operatorId)
+                .build();
+    }
+
+    private UserRole parseRole(String roleId) {
+        try {
+            return UserRole.valueOf(roleId);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("알 수 없는 역할입니다: " + roleId);
         }
+    }
 
-        List<UserInfo> users = userInfoMapper.findAll(userName, startDate, endDate);
-        PageInfo<UserInfo> pageInfo = new PageInfo<>(users);
+    private boolean isPresent(String value) {
+        return value != null && !value.isEmpty();
+    }
 
-        return PageResponse.of(pageInfo, users);
+    private String startOfDay(String date) {
+        return date != null && !date.isEmpty() ? date + " 00:00:00" : date;
+    }
+
+    private String endOfDay(String date) {
+        return date != null && !date.isEmpty() ? date + " 23:59:59" : date;
     }
 
     public UserInfo getUserById(String userId) {
@@ -49,42 +257,76 @@ public class UserService {
         return user;
     }
 
-    @Transactional
+    /**
+     * 사용자 등록
+     * 비밀번호 해시(전용 실행기 대기 포함)는 트랜잭션 밖에서 먼저 수행하고 조회/저장만 짧은 트랜잭션으로 실행
+     */
     public void createUser(UserInfoRequest request) {
-        if (userInfoMapper.findById(request.getUserId()) != null) {
-            throw new IllegalArgumentException("이미 존재하는 사용자 ID입니다: " + request.getUserId());
-        }
         UserInfo user = convertToEntity(request);
-        user.setUserPwd(passwordEncoder.encode(request.getUserPwd()));
-        userInfoMapper.insert(user);
+        user.setUserPwd(passwordHasher.encode(request.getUserPwd()));
+        transactionTemplate.executeWithoutResult(status -> {
+            if (userInfoMapper.findById(user.getUserId()) != null) {
+                throw new IllegalArgumentException("이미 존재하는 사용자 ID입니다: " + user.getUserId());
+            }
+            userInfoMapper.insert(user);
+        });
+        userSnapshotCache.invalidate(user.getUserId());
+        pagedQueryExecutor.invalidate(COUNT_SCOPE);
     }
 
-    @Transactional
+    /**
+     * 사용자 수정
+     * 비밀번호 변경 시 해시는 트랜잭션 밖에서 먼저 수행
+     */
     public void updateUser(UserInfoRequest request) {
         UserInfo user = convertToEntity(request);
         if (request.getUserPwd() != null && !request.getUserPwd().isEmpty()) {
-            user.setUserPwd(passwordEncoder.encode(request.getUserPwd()));
+            user.setUserPwd(passwordHasher.encode(request.getUserPwd()));
         }
-        userInfoMapper.update(user);
+        transactionTemplate.executeWithoutResult(status -> userInfoMapper.update(user));
+        userSnapshotCache.invalidate(user.getUserId());
     }
 
     @Transactional
     public void deleteUser(String userId) {
         userRoleMapper.deleteByUserId(userId);
         userInfoMapper.delete(userId);
+        userSnapshotCache.invalidate(userId);
+        pagedQueryExecutor.invalidate(COUNT_SCOPE);
     }
 
+    /**
+     * 사용자 역할 동기화
+     * 현재 매핑과 비교하여 추가/삭제분만 반영 (변경 없으면 DB 쓰기 없음)
+     * 
+     * @param userId  사용자 아이디
+     * @param roleIds 부여할 역할 아이디 목록 (전체)
+     */
     @Transactional
     public void assignRoles(String userId, List<String> roleIds) {
-        userRoleMapper.deleteByUserId(userId);
-        for (String roleId : roleIds) {
-            UserRoleMap mapping = UserRoleMap.builder()
-                    .userId(userId)
-                    .roleId(roleId)
-                    .useYn("1")
-                    .build();
-            userRoleMapper.insert(mapping);
+        Set<String> target = new LinkedHashSet<>(roleIds);
+        Set<String> active = new HashSet<>();
+        List<String> toRemove = new ArrayList<>();
+        for (UserRoleMap mapping : userRoleMapper.findByUserId(userId)) {
+            if (!target.contains(mapping.getRoleId())) {
+                toRemove.add(mapping.getRoleId());
+            } else if ("1".equals(mapping.getUseYn())) {
+                active.add(mapping.getRoleId());
+            }
+        }
+        target.removeAll(active);
+
+        if (toRemove.isEmpty() && target.isEmpty()) {
+            return;
+        }
+        if (!toRemove.isEmpty()) {
+            userRoleMapper.deleteAll(userId, toRemove);
+        }
+        if (!target.isEmpty()) {
+            userRoleMapper.insertAll(userId, target);
         }
+        log.info("Roles synced for user {}: +{} -{}", userId, target, toRemove);
+        userSnapshotCache.invalidate(userId);
     }
 
     public List<String> getUserRoleIds(String userId) {
@@ -0,0 +1,131 @@
+package com.example.springrest.domain.user.service;
+
+import com.example.springrest.domain.user.model.entity.UserInfo;
+import com.example.springrest.domain.user.model.enums.UserRole;
+import com.example.springrest.domain.user.repository.UserInfoMapper;
+import com.example.springrest.global.config.UserCacheProperties;
+import com.example.springrest.global.util.TransactionUtils;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 사용자 스냅샷 캐시
+ * 인증 경로에서 매 요청 DB 조회 없이 사용자 상태와 역할을 확인하기 위한 TTL 기반 캐시
+ * 비밀번호를 제외한 사본만 보관하며, 존재하지 않는 사용자도 TTL 동안 캐시
+ * 사용자/역할 변경 시 즉시 + 커밋 후 두 번 무효화하여 커밋 전 재적재된 값이 남지 않도록 함
+ */
+@Component
+public class UserSnapshotCache {
+
+    private static final String INACTIVE_STATUS = "INACTIVE";
+
+    private final UserInfoMapper userInfoMapper;
+    private final LoadingCache<String, Optional<UserInfo>> cache;
+
+    public UserSnapshotCache(UserInfoMapper userInfoMapper, UserCacheProperties properties,
+            MeterRegistry meterRegistry) {
+        this.userInfoMapper = userInfoMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build(this::load);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user.snapshot");
+    }
+
+    /**
+     * 사용자 스냅샷 조회 (캐시 미스 시 DB 조회)
+     * 
+     * @param userId 사용자 아이디
+     * @return 사용자 정보 사본 (비밀번호 제외), 없으면 empty
+     */
+    public Optional<UserInfo> get(String userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        return cache.get(userId).map(UserSnapshotCache::copyOf);
+    }
+
+    /**
+     * 사용 가능 여부 (USE_YN = '1' 이고 상태가 INACTIVE가 아님)
+     * 
+     * @param user 사용자 정보
+     * @return 로그인/인증 허용 여부
+     */
+    public static boolean isActive(UserInfo user) {
+        return "1".equals(user.getUseYn()) && !INACTIVE_STATUS.equalsIgnoreCase(user.getUserStatCd());
+    }
+
+    /**
+     * 사용자 캐시 무효화 (즉시 + 트랜잭션 커밋 후)
+     * 
+     * @param userId 사용자 아이디
+     */
+    public void invalidate(String userId) {
+        cache.invalidate(userId);
+        TransactionUtils.afterCommit(() -> cache.invalidate(userId));
+    }
+
+    /**
+     * 여러 사용자 캐시 무효화 (즉시 + 트랜잭션 커밋 후)
+     * 
+     * @param userIds 사용자 아이디 목록
+     */
+    public void invalidateAll(Collection<String> userIds) {
+        cache.invalidateAll(userIds);
+        TransactionUtils.afterCommit(() -> cache.invalidateAll(userIds));
+    }
+
+    /**
+     * 전체 캐시 무효화 (즉시 + 트랜잭션 커밋 후)
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+        TransactionUtils.afterCommit(cache::invalidateAll);
+    }
+
+    private Optional<UserInfo> load(String userId) {
+        UserInfo user = userInfoMapper.findById(userId);
+        if (user == null) {
+            return Optional.empty();
+        }
+        UserInfo snapshot = copyOf(user);
+        snapshot.setUserPwd(null);
+        snapshot.setRoles(Collections.unmodifiableSet(snapshot.getRoles()));
+        return Optional.of(snapshot);
+    }
+
+    private static UserInfo copyOf(UserInfo source) {
+        Set<UserRole> roles = EnumSet.noneOf(UserRole.class);
+        if (source.getRoles() != null) {
+            source.getRoles().stream().filter(role -> role != null).forEach(roles::add);
+        }
+        return UserInfo.builder()
+                .userId(source.getUserId())
+                .roles(roles)
+                .userEmail(source.getUserEmail())
+                .userMobile(source.getUserMobile())
+                .userName(source.getUserName())
+                .userNick(source.getUserNick())
+                .userPwd(source.getUserPwd())
+                .userMsg(source.getUserMsg())
+                .userDesc(source.getUserDesc())
+                .userStatCd(source.getUserStatCd())
+                .userSnsid(source.getUserSnsid())
+                .useYn(source.getUseYn())
+                .sysInsertDtm(source.getSysInsertDtm())
+                .sysInsertUserId(source.getSysInsertUserId())
+                .sysUpdateDtm(source.getSysUpdateDtm())
+                .sysUpdateUserId(source.getSysUpdateUserId())
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.springrest.global.bulk;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대량 가져오기 결과 (행 오류가 있어도 나머지 행은 계속 처리)
+ */
+@Data
+public class BulkImportResult {
+    private long total;      // 읽은 데이터 행 수
+    private long inserted;   // 저장된 행 수
+    private long skipped;    // 이미 존재하여 건너뛴 행 수
+    private long failed;     // 오류 행 수
+    private List<RowError> errors = new ArrayList<>(); // 오류/건너뛴 행 (최대 app.bulk-import.max-errors건)
+    private boolean errorsTruncated; // 오류 목록 생략 여부
+    private boolean aborted;         // 입력 읽기 오류로 중단 여부 (이전 행까지의 결과만 포함)
+
+    /**
+     * 행 오류
+     * 
+     * @param row     데이터 행 번호
+     * @param message 오류 내용
+     */
+    public record RowError(long row, String message) {
+    }
+
+    void addError(long row, String message, int maxErrors) {
+        failed++;
+        addRowError(row, message, maxErrors);
+    }
+
+    void addSkipped(long row, String message, int maxErrors) {
+        skipped++;
+        addRowError(row, message, maxErrors);
+    }
+
+    private void addRowError(long row, String message, int maxErrors) {
+        if (errors.size() < maxErrors) {
+            errors.add(new RowError(row, message));
+        } else {
+            errorsTruncated = true;
+        }
+    }
+}
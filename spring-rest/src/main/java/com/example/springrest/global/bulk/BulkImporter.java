@@ -0,0 +1,161 @@
+package com.example.springrest.global.bulk;
+
+import com.example.springrest.global.config.BulkImportProperties;
+import com.example.springrest.global.export.ExportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 대량 가져오기 실행기
+ * 입력(CSV/NDJSON)을 스트리밍으로 읽어 배치 크기만큼 모은 뒤 배치당 한 트랜잭션으로 저장
+ * 배치 저장이 실패하면 해당 배치만 행 단위로 재시도하여 문제 행만 오류로 기록하고 나머지는 계속 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BulkImporter {
+
+    private static final int MAX_MESSAGE_LENGTH = 300;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final BulkImportProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 가져오기 실행
+     * 
+     * @param name   가져오기 이름 (로그용)
+     * @param in     입력 스트림
+     * @param format 입력 형식
+     * @param parser 행 -> 저장 대상 변환 (검증 실패 시 IllegalArgumentException)
+     * @param writer 배치 저장
+     * @param <T>    저장 대상 타입
+     * @return 실행 결과
+     */
+    public <T> BulkImportResult run(String name, InputStream in, ExportFormat format,
+            Function<BulkRecord, T> parser, BulkWriter<T> writer) {
+        int batchSize = Math.max(properties.getBatchSize(), 1);
+        BulkRecordReader reader = new BulkRecordReader(in, format, objectMapper, properties.getMaxRecordLength());
+        BulkImportResult result = new BulkImportResult();
+        List<Long> rows = new ArrayList<>(batchSize);
+        List<T> values = new ArrayList<>(batchSize);
+
+        BulkRecord record;
+        while ((record = read(reader, result)) != null) {
+            result.setTotal(result.getTotal() + 1);
+            if (record.error() != null) {
+                result.addError(record.row(), record.error(), properties.getMaxErrors());
+                continue;
+            }
+            try {
+                values.add(parser.apply(record));
+                rows.add(record.row());
+            } catch (IllegalArgumentException e) {
+                result.addError(record.row(), e.getMessage(), properties.getMaxErrors());
+                continue;
+            }
+            if (values.size() >= batchSize) {
+                flush(rows, values, writer, result);
+                rows.clear();
+                values.clear();
+            }
+        }
+        if (!values.isEmpty()) {
+            flush(rows, values, writer, result);
+        }
+
+        log.info("Bulk import {}: total={}, inserted={}, skipped={}, failed={}", name, result.getTotal(),
+                result.getInserted(), result.getSkipped(), result.getFailed());
+        return result;
+    }
+
+    /**
+     * 다음 행 읽기
+     * 입력을 더 읽을 수 없으면 (연결 끊김, 압축 오류 등) 다음 행을 오류로 기록하고 중단하여
+     * 이미 저장된 배치의 결과는 그대로 반환
+     */
+    private BulkRecord read(BulkRecordReader reader, BulkImportResult result) {
+        try {
+            return reader.next();
+        } catch (IOException e) {
+            log.warn("Bulk import input aborted after row {}: {}", reader.row(), e.toString());
+            result.setTotal(result.getTotal() + 1);
+            result.addError(reader.row() + 1, "입력을 더 읽을 수 없습니다: " + message(e), properties.getMaxErrors());
+            result.setAborted(true);
+            return null;
+        }
+    }
+
+    /**
+     * 요청 본문 스트림 (Content-Encoding: gzip이면 압축 해제)
+     */
+    public static InputStream requestBody(HttpServletRequest request) throws IOException {
+        InputStream in = request.getInputStream();
+        return "gzip".equalsIgnoreCase(request.getHeader(HttpHeaders.CONTENT_ENCODING))
+                ? new GZIPInputStream(in, BUFFER_SIZE)
+                : in;
+    }
+
+    private <T> void flush(List<Long> rows, List<T> values, BulkWriter<T> writer, BulkImportResult result) {
+        try {
+            writer.prepare(values);
+        } catch (RuntimeException e) {
+            String message = message(e);
+            rows.forEach(row -> result.addError(row, message, properties.getMaxErrors()));
+            return;
+        }
+
+        try {
+            List<T> existing = transactionTemplate.execute(status -> writer.write(values));
+            record(rows, values, existing, result);
+        } catch (RuntimeException e) {
+            log.debug("Bulk batch failed, retrying row by row: {}", e.toString());
+            for (int i = 0; i < values.size(); i++) {
+                List<T> single = List.of(values.get(i));
+                try {
+                    List<T> existing = transactionTemplate.execute(status -> writer.write(single));
+                    record(rows.subList(i, i + 1), single, existing, result);
+                } catch (RuntimeException rowError) {
+                    result.addError(rows.get(i), message(rowError), properties.getMaxErrors());
+                }
+            }
+        }
+    }
+
+    private <T> void record(List<Long> rows, List<T> values, List<T> existing, BulkImportResult result) {
+        Set<T> skipped = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (existing != null) {
+            skipped.addAll(existing);
+        }
+        for (int i = 0; i < values.size(); i++) {
+            if (skipped.contains(values.get(i))) {
+                result.addSkipped(rows.get(i), "이미 존재합니다", properties.getMaxErrors());
+            } else {
+                result.setInserted(result.getInserted() + 1);
+            }
+        }
+    }
+
+    private String message(Throwable e) {
+        Throwable cause = NestedExceptionUtils.getMostSpecificCause(e);
+        String message = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+        return message.length() > MAX_MESSAGE_LENGTH ? message.substring(0, MAX_MESSAGE_LENGTH) : message;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.springrest.global.bulk;
+
+import java.util.Map;
+
+/**
+ * 가져오기 입력의 한 행
+ *
+ * @param row    데이터 행 번호 (헤더 제외, 1부터)
+ * @param fields 컬럼명 -> 값 (빈 값은 null)
+ * @param error  행 파싱 오류 (정상이면 null)
+ */
+public record BulkRecord(long row, Map<String, String> fields, String error) {
+
+    public String get(String name) {
+        return fields.get(name);
+    }
+}
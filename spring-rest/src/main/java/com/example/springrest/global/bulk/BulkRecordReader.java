@@ -0,0 +1,261 @@
+package com.example.springrest.global.bulk;
+
+import com.example.springrest.global.export.ExportFormat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CSV(첫 행 헤더, RFC 4180) / NDJSON 입력을 한 행씩 읽는 리더
+ * 전체 입력을 메모리에 올리지 않고 호출할 때마다 다음 행만 파싱
+ * 최대 길이를 넘는 행과 닫히지 않은 따옴표는 예외 대신 행 오류로 반환
+ */
+class BulkRecordReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final BufferedReader reader;
+    private final ExportFormat format;
+    private final ObjectMapper objectMapper;
+    private final int maxRecordLength;
+    private List<String> header;
+    private long row;
+
+    // 마지막으로 읽은 레코드 상태
+    private boolean oversized;
+    private boolean unterminated;
+
+    BulkRecordReader(InputStream in, ExportFormat format, ObjectMapper objectMapper, int maxRecordLength) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.maxRecordLength = Math.max(maxRecordLength, 1);
+    }
+
+    /**
+     * 다음 행 읽기
+     * 
+     * @return 다음 행 (입력 끝이면 null)
+     * @throws IllegalArgumentException CSV 헤더 행을 읽을 수 없는 경우
+     */
+    BulkRecord next() throws IOException {
+        return format == ExportFormat.CSV ? nextCsv() : nextNdjson();
+    }
+
+    /**
+     * 마지막으로 반환한 데이터 행 번호
+     */
+    long row() {
+        return row;
+    }
+
+    private BulkRecord nextNdjson() throws IOException {
+        String line;
+        do {
+            line = readLine();
+            if (line == null) {
+                return null;
+            }
+            if (oversized) {
+                row++;
+                return new BulkRecord(row, Map.of(), oversizedMessage());
+            }
+            line = stripBom(line).strip();
+        } while (line.isEmpty());
+
+        row++;
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            if (!node.isObject()) {
+                return new BulkRecord(row, Map.of(), "JSON 객체가 아닙니다");
+            }
+            Map<String, String> fields = new HashMap<>();
+            for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext();) {
+                Map.Entry<String, JsonNode> field = it.next();
+                JsonNode value = field.getValue();
+                if (value.isArray()) {
+                    List<String> items = new ArrayList<>();
+                    value.forEach(item -> items.add(item.asText()));
+                    fields.put(field.getKey(), String.join(";", items));
+                } else if (!value.isNull()) {
+                    fields.put(field.getKey(), emptyToNull(value.asText()));
+                }
+            }
+            return new BulkRecord(row, fields, null);
+        } catch (JsonProcessingException e) {
+            return new BulkRecord(row, Map.of(), "JSON 형식 오류: " + e.getOriginalMessage());
+        }
+    }
+
+    private BulkRecord nextCsv() throws IOException {
+        if (header == null) {
+            List<String> names = readCsvLine();
+            if (names == null) {
+                return null;
+            }
+            if (oversized || unterminated) {
+                throw new IllegalArgumentException(oversized ? "CSV 헤더 " + oversizedMessage()
+                        : "CSV 헤더의 따옴표가 닫히지 않았습니다");
+            }
+            header = names.stream().map(name -> name == null ? "" : name.strip()).toList();
+        }
+
+        List<String> values;
+        do {
+            values = readCsvLine();
+            if (values == null) {
+                return null;
+            }
+        } while (!oversized && !unterminated && values.size() == 1 && values.get(0) == null);
+
+        row++;
+        if (oversized) {
+            return new BulkRecord(row, Map.of(), oversizedMessage());
+        }
+        if (unterminated) {
+            return new BulkRecord(row, Map.of(), "CSV 따옴표가 닫히지 않았습니다");
+        }
+        if (values.size() != header.size()) {
+            return new BulkRecord(row, Map.of(),
+                    "컬럼 수가 헤더와 다릅니다 (" + values.size() + " / " + header.size() + ")");
+        }
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            if (values.get(i) != null) {
+                fields.put(header.get(i), values.get(i));
+            }
+        }
+        return new BulkRecord(row, fields, null);
+    }
+
+    /**
+     * CSV 한 레코드 읽기 (따옴표 안의 줄바꿈 포함)
+     * 최대 길이를 넘으면 oversized, 입력 끝까지 따옴표가 닫히지 않으면 unterminated 표시
+     * (최대 길이를 넘은 뒤에는 값을 버리고 레코드 끝까지 건너뜀)
+     * 
+     * @return 필드 목록 (빈 값은 null), 입력 끝이면 null
+     */
+    private List<String> readCsvLine() throws IOException {
+        oversized = false;
+        unterminated = false;
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        if (row == 0 && header == null && c == '\uFEFF') {
+            c = reader.read();
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean inQuotes = false;
+        int fieldLength = 0;
+        int length = 0;
+        while (true) {
+            if (c == -1) {
+                unterminated = inQuotes;
+                break;
+            }
+            if (!oversized && ++length > maxRecordLength) {
+                oversized = true;
+                fields.clear();
+                field.setLength(0);
+            }
+            if (inQuotes) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        fieldLength++;
+                        append(field, '"');
+                    } else {
+                        inQuotes = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    fieldLength++;
+                    append(field, c);
+                }
+            } else if (c == '"' && fieldLength == 0) {
+                inQuotes = true;
+                quoted = true;
+            } else if (c == ',') {
+                if (!oversized) {
+                    fields.add(toField(field, quoted));
+                }
+                field.setLength(0);
+                fieldLength = 0;
+                quoted = false;
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                fieldLength++;
+                append(field, c);
+            }
+            c = reader.read();
+        }
+        if (!oversized) {
+            fields.add(toField(field, quoted));
+        }
+        return fields;
+    }
+
+    /**
+     * 한 줄 읽기 (최대 길이를 넘는 부분은 버리고 oversized 표시)
+     * 
+     * @return 줄 내용, 입력 끝이면 null
+     */
+    private String readLine() throws IOException {
+        oversized = false;
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        StringBuilder line = new StringBuilder();
+        while (c != -1 && c != '\n') {
+            if (line.length() < maxRecordLength) {
+                line.append((char) c);
+            } else {
+                oversized = true;
+            }
+            c = reader.read();
+        }
+        return line.toString();
+    }
+
+    private void append(StringBuilder field, int c) {
+        if (!oversized) {
+            field.append((char) c);
+        }
+    }
+
+    private String oversizedMessage() {
+        return "행 길이가 최대 " + maxRecordLength + "자를 넘습니다";
+    }
+
+    private String toField(StringBuilder field, boolean quoted) {
+        return quoted ? field.toString() : emptyToNull(field.toString());
+    }
+
+    private String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    private String stripBom(String line) {
+        return row == 0 && !line.isEmpty() && line.charAt(0) == '\uFEFF' ? line.substring(1) : line;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.springrest.global.bulk;
+
+import java.util.List;
+
+/**
+ * 대량 가져오기 배치 저장
+ *
+ * @param <T> 저장 대상 타입
+ */
+public interface BulkWriter<T> {
+
+    /**
+     * 트랜잭션 밖에서 수행할 배치 전처리 (예: 비밀번호 해시)
+     */
+    default void prepare(List<T> rows) {
+    }
+
+    /**
+     * 배치 저장 (트랜잭션 안에서 호출)
+     * 
+     * @param rows 저장할 행
+     * @return 이미 존재하여 저장하지 않은 행 (없으면 빈 목록)
+     */
+    List<T> write(List<T> rows);
+}
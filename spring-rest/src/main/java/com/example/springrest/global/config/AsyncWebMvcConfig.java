@@ -0,0 +1,27 @@
+package com.example.springrest.global.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * MVC 비동기 응답(StreamingResponseBody 등) 실행 설정
+ * 느린 클라이언트로의 파일 전송이 서블릿 요청 스레드나 고정 크기 풀을 점유하지 않도록 가상 스레드에서 실행
+ */
+@Configuration
+@RequiredArgsConstructor
+public class AsyncWebMvcConfig implements WebMvcConfigurer {
+
+    private final FileUploadProperties fileUploadProperties;
+
+    @Override
+    public void configureAsyncSupport(@NonNull AsyncSupportConfigurer configurer) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("mvc-async-");
+        executor.setVirtualThreads(true);
+        configurer.setTaskExecutor(executor);
+        configurer.setDefaultTimeout(fileUploadProperties.getDownloadTimeout().toMillis());
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.springrest.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 삭제된 게시물 보관(archive) 설정 Properties
+ * application.yml의 app.board.archive.* 속성을 바인딩
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.board.archive")
+public class BoardArchiveProperties {
+    /**
+     * 주기 실행 사용 여부 (관리 API 수동 실행은 항상 가능)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 삭제 후 보관 테이블로 이동하기까지 원본 테이블에 유지하는 기간 (복원 가능 기간)
+     * 기본값: 90일
+     */
+    private Duration retention = Duration.ofDays(90);
+
+    /**
+     * 배치(트랜잭션)당 최대 이동 행 수
+     */
+    private int batchSize = 1000;
+
+    /**
+     * 1회 실행 시 최대 배치 수 (테이블별)
+     */
+    private int maxBatches = 100;
+}
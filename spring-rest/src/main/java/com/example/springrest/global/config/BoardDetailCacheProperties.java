@@ -0,0 +1,28 @@
+package com.example.springrest.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 게시물 상세 응답 캐시 설정 Properties
+ * application.yml의 app.board.detail-cache.* 속성을 바인딩
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.board.detail-cache")
+public class BoardDetailCacheProperties {
+    /**
+     * 캐시 전체 최대 크기 (직렬화된 응답 바이트 합계)
+     * 기본값: 64MB
+     */
+    private long maxBytes = 64L * 1024 * 1024;
+
+    /**
+     * 항목 유지 시간 (조회수/다운로드수 표시 지연 상한)
+     * 기본값: 10초
+     */
+    private Duration ttl = Duration.ofSeconds(10);
+}
@@ -0,0 +1,31 @@
+package com.example.springrest.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 대량 가져오기 설정 Properties
+ * application.yml의 app.bulk-import.* 속성을 바인딩
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.bulk-import")
+public class BulkImportProperties {
+    /**
+     * 배치 크기 (한 번의 다중 행 INSERT, 한 트랜잭션에 포함되는 행 수)
+     * 행당 바인드 변수 수 x 배치 크기가 PostgreSQL 한도(32767)를 넘지 않아야 함
+     */
+    private int batchSize = 500;
+
+    /**
+     * 결과에 포함할 행 오류 최대 건수 (초과분은 건수만 집계)
+     */
+    private int maxErrors = 1000;
+
+    /**
+     * 한 행(CSV 레코드 / NDJSON 줄) 최대 길이 (문자 수)
+     * 넘는 행은 값을 버리고 행 오류로 기록
+     */
+    private int maxRecordLength = 64 * 1024;
+}
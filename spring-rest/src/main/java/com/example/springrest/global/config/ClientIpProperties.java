@@ -0,0 +1,23 @@
+package com.example.springrest.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 클라이언트 IP 판별 설정 Properties
+ * application.yml의 app.client-ip.* 속성을 바인딩
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.client-ip")
+public class ClientIpProperties {
+    /**
+     * X-Forwarded-For 헤더를 신뢰할 프록시 주소 (IP 또는 CIDR, 예: 10.0.0.0/8)
+     * 비어 있으면 헤더를 무시하고 연결 주소(remoteAddr)만 사용
+     */
+    private List<String> trustedProxies = new ArrayList<>();
+}
@@ -0,0 +1,43 @@
+package com.example.springrest.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 대량 내보내기 설정 Properties
+ * application.yml의 app.export.* 속성을 바인딩
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.export")
+public class ExportProperties {
+    /**
+     * 내보내기 전용 커넥션 풀 크기 (동시 내보내기 상한)
+     * 일반 요청용 풀과 분리되어 내보내기가 몰려도 OLTP 커넥션을 점유하지 않음
+     */
+    private int maxConnections = 2;
+
+    /**
+     * 전용 풀 커넥션 대기 시간 (초과 시 429로 거절)
+     */
+    private Duration connectionTimeout = Duration.ofSeconds(3);
+
+    /**
+     * JDBC fetch size (한 번에 DB에서 가져오는 행 수, 메모리 사용량 상한)
+     */
+    private int fetchSize = 1000;
+
+    /**
+     * 쿼리 실행 제한 시간
+     */
+    private Duration statementTimeout = Duration.ofMinutes(30);
+
+    /**
+     * 응답 쓰기 버퍼 크기
+     */
+    private DataSize bufferSize = DataSize.ofKilobytes(64);
+}
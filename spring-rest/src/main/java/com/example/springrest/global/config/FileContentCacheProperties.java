@@ -0,0 +1,32 @@
+package com.example.springrest.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 첨부파일 내용 메모리 캐시 설정 Properties
+ * application.yml의 app.file.content-cache.* 속성을 바인딩
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.file.content-cache")
+public class FileContentCacheProperties {
+    /**
+     * 캐시 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 캐시 전체 최대 크기 (힙 메모리, -Xmx 범위 내로 설정)
+     * 기본값: 128MB
+     */
+    private DataSize maxBytes = DataSize.ofMegabytes(128);
+
+    /**
+     * 캐시 대상 파일 최대 크기 (썸네일/로고/본문 이미지 등 작은 파일만 캐시)
+     * 기본값: 512KB
+     */
+    private DataSize maxFileSize = DataSize.ofKilobytes(512);
+}
@@ -0,0 +1,65 @@
+package com.example.springrest.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 파일 업로드 설정 Properties
+ * application.yml의 app.file.* 속성을 바인딩
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.file")
+public class FileUploadProperties {
+    /**
+     * 파일 1건 최대 크기 (스트리밍 중 초과 시 즉시 중단)
+     * 기본값: 100MB
+     */
+    private DataSize maxFileSize = DataSize.ofMegabytes(100);
+
+    /**
+     * 스트리밍 업로드 버퍼 크기
+     * 기본값: 64KB
+     */
+    private DataSize bufferSize = DataSize.ofKilobytes(64);
+
+    /**
+     * 비동기 다운로드 전송 최대 시간 (MVC 비동기 요청 타임아웃으로 적용)
+     * 기본값: 30분
+     */
+    private Duration downloadTimeout = Duration.ofMinutes(30);
+
+    /**
+     * 미참조 첨부파일 정리(GC) 설정
+     */
+    private Gc gc = new Gc();
+
+    @Data
+    public static class Gc {
+        /**
+         * GC 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 마지막 참조 해제 후 물리 삭제까지 유예 기간 (복원/재첨부/진행 중 업로드 보호)
+         * 기본값: 24시간
+         */
+        private Duration gracePeriod = Duration.ofHours(24);
+
+        /**
+         * 1회 실행 시 정리할 최대 blob 수
+         */
+        private int batchSize = 500;
+
+        /**
+         * 1회 실행 시 미참조 blob을 검사할 저장소 분산 디렉터리 수 (전체 256개를 순환)
+         * 재시작으로 정리 대기열에서 사라진 blob(롤백된 업로드 등)을 회수
+         */
+        private int orphanScanShards = 16;
+    }
+}
@@ -28,4 +28,11 @@ public class JwtProperties {
      * 기본값: 604800000 (7일)
      */
     private long refreshExpiration = 604800000;
+
+    /**
+     * 검증 완료 토큰 캐시 최대 항목 수
+     * 0 이하이면 캐시를 사용하지 않음
+     * 기본값: 10000
+     */
+    private long principalCacheSize = 10000;
 }
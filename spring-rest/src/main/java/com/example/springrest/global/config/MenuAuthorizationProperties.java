@@ -0,0 +1,39 @@
+package com.example.springrest.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 메뉴 기반 API 권한 설정 Properties
+ * application.yml의 app.menu-auth.* 속성을 바인딩
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.menu-auth")
+public class MenuAuthorizationProperties {
+    /**
+     * 메뉴 URI 기반 API 권한 검사 사용 여부
+     * 기본값: false (인증만 확인)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 메뉴 URI와 대응되는 API 경로 접두사
+     * 예: 메뉴 /users → API /api/v1/mgmt/users/**
+     */
+    private String apiPrefix = "/api/v1/mgmt";
+
+    /**
+     * 권한 검사 제외 경로 (접두사 이후 경로 기준, 하위 경로 포함)
+     */
+    private List<String> excludes = new ArrayList<>(List.of("/menus/me"));
+
+    /**
+     * 메뉴 매핑과 무관하게 모든 경로를 허용할 역할
+     */
+    private List<String> bypassRoles = new ArrayList<>(List.of("ROLE_ADMIN"));
+}
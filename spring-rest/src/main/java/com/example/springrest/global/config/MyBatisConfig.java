@@ -1,15 +1,38 @@
 package com.example.springrest.global.config;
 
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
 import org.mybatis.spring.annotation.MapperScan;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
 /**
  * MyBatis 설정
  * 매퍼 인터페이스 스캔 및 SqlSessionFactory 구성
  */
 @Configuration
-@MapperScan("com.example.springrest.domain.**.repository")
+@MapperScan(value = "com.example.springrest.domain.**.repository", sqlSessionTemplateRef = "sqlSessionTemplate")
 public class MyBatisConfig {
-    // MapperScan 애노테이션으로 자동 설정됨
-    // Spring Boot Auto-configuration이 나머지 설정을 처리함
+    // SqlSessionFactory는 Spring Boot Auto-configuration이 구성함
+
+    /**
+     * 기본 SqlSessionTemplate (매퍼 스캔 대상)
+     */
+    @Bean
+    @Primary
+    public SqlSessionTemplate sqlSessionTemplate(SqlSessionFactory sqlSessionFactory) {
+        return new SqlSessionTemplate(sqlSessionFactory);
+    }
+
+    /**
+     * 대량 쓰기용 BATCH 실행기 SqlSessionTemplate
+     * 같은 트랜잭션 안에서 기본 템플릿과 섞어 쓰면 실행기 변경 오류가 발생하므로
+     * 트랜잭션 내 모든 조회/쓰기를 이 템플릿의 매퍼로 수행해야 함
+     */
+    @Bean
+    public SqlSessionTemplate batchSqlSessionTemplate(SqlSessionFactory sqlSessionFactory) {
+        return new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+    }
 }
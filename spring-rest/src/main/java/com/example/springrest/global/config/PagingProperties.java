@@ -0,0 +1,35 @@
+package com.example.springrest.global.config;
+
+import com.example.springrest.global.paging.CountMode;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 페이징 설정 Properties
+ * application.yml의 app.paging.* 속성을 바인딩
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.paging")
+public class PagingProperties {
+    /**
+     * 요청에 countMode가 없을 때 사용할 건수 산출 방식
+     * 기본값: EXACT
+     */
+    private CountMode defaultCountMode = CountMode.EXACT;
+
+    /**
+     * CACHED 모드 건수 캐시 유지 시간
+     * 기본값: 30초
+     */
+    private Duration countCacheTtl = Duration.ofSeconds(30);
+
+    /**
+     * CACHED 모드 건수 캐시 최대 항목 수
+     * 기본값: 10000
+     */
+    private long countCacheSize = 10000;
+}
@@ -0,0 +1,56 @@
+package com.example.springrest.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 비밀번호 해시 설정 Properties
+ * application.yml의 app.password.* 속성을 바인딩
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.password")
+public class PasswordHashingProperties {
+    /**
+     * BCrypt cost factor
+     * 기본값: 10
+     */
+    private int strength = 10;
+
+    /**
+     * 해시 전용 스레드 수 (동시 해시 상한)
+     * 기본값: CPU 코어 수
+     */
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * 대량 가져오기 해시 전용 스레드 수
+     * 로그인용 스레드와 분리하여 가져오기 중에도 로그인 해시 용량을 유지
+     * 기본값: CPU 코어 수의 절반 (최소 1)
+     */
+    private int bulkThreads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    /**
+     * 대기열 최대 길이 (초과 시 즉시 거절)
+     */
+    private int queueCapacity = 100;
+
+    /**
+     * 대기열 최대 대기 시간 (초과 시 해시를 수행하지 않고 거절)
+     */
+    private Duration queueTimeout = Duration.ofSeconds(2);
+
+    /**
+     * 요청 스레드가 해시 결과를 기다리는 최대 시간 (대기열 대기 포함, 초과 시 작업 취소 후 거절)
+     * 기본값: 5초
+     */
+    private Duration timeout = Duration.ofSeconds(5);
+
+    /**
+     * 로그인 성공 시 저장된 해시의 cost가 설정값과 다르면 새 cost로 재해시하여 저장
+     */
+    private boolean rehashOnLogin = false;
+}
@@ -0,0 +1,28 @@
+package com.example.springrest.global.config;
+
+import com.example.springrest.global.ratelimit.RateLimitInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Rate Limit 인터셉터 등록
+ * API 경로(/api/**)에만 적용
+ */
+@Configuration
+@RequiredArgsConstructor
+public class RateLimitConfig implements WebMvcConfigurer {
+
+    private final RateLimitProperties rateLimitProperties;
+    private final RateLimitInterceptor rateLimitInterceptor;
+
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        if (rateLimitProperties.isEnabled()) {
+            registry.addInterceptor(rateLimitInterceptor)
+                    .addPathPatterns("/api/**");
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.springrest.global.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Rate Limit 설정 Properties
+ * application.yml의 app.rate-limit.* 속성을 바인딩
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+    /**
+     * Rate Limit 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 정책별 최대 추적 키 개수 (메모리 상한)
+     * 초과 시 유휴 키를 즉시 정리하고, 그래도 가득 차면 제한이 가장 덜 걸린 키부터 일부 제거
+     */
+    private int maxKeys = 100000;
+
+    /**
+     * 로그인: 클라이언트 IP 기준 제한
+     */
+    private Limit loginIp = new Limit(20, Duration.ofMinutes(1));
+
+    /**
+     * 로그인: 사용자 아이디 기준 제한 (무차별 대입 방지)
+     */
+    private Limit loginUser = new Limit(5, Duration.ofMinutes(1));
+
+    /**
+     * 토큰 갱신: 클라이언트 IP 기준 제한
+     */
+    private Limit refresh = new Limit(30, Duration.ofMinutes(1));
+
+    /**
+     * 일반 인증 API: 사용자 아이디 기준 제한
+     */
+    private Limit api = new Limit(300, Duration.ofMinutes(1));
+
+    /**
+     * 허용량 정의: period 동안 capacity 건 (capacity 만큼 순간 버스트 허용)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+        private int capacity;
+        private Duration period;
+    }
+}
@@ -1,10 +1,13 @@
 package com.example.springrest.global.config;
 
+import com.example.springrest.global.security.DownloadUrlSigner;
 import com.example.springrest.global.security.JwtAuthenticationFilter;
+import com.example.springrest.global.security.MenuUrlAuthorizationManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -29,7 +32,22 @@ import java.util.Arrays;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    /** 메뉴 권한 설정과 무관하게 관리자 역할이 필요한 대량 내보내기 경로 */
+    static final String[] BULK_EXPORT_PATHS = {
+            "/api/v1/mgmt/users/export",
+            "/api/v1/mgmt/boards/export"
+    };
+
+    /** 메뉴 권한 설정과 무관하게 관리자 역할이 필요한 대량 가져오기 경로 */
+    static final String[] BULK_IMPORT_PATHS = {
+            "/api/v1/mgmt/users/import",
+            "/api/v1/mgmt/boards/import"
+    };
+
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final PasswordHashingProperties passwordHashingProperties;
+    private final MenuAuthorizationProperties menuAuthorizationProperties;
+    private final MenuUrlAuthorizationManager menuUrlAuthorizationManager;
 
     @Bean
     public WebSecurityCustomizer webSecurityCustomizer() {
@@ -71,20 +89,32 @@ public class SecurityConfig {
                         }))
 
                 // 요청별 권한 설정
-                .authorizeHttpRequests(auth -> auth
-                        // 프론트엔드 뷰 허용 (게스트 페이지)
-                        .requestMatchers("/", "/index.html", "/login", "/welcome", "/about").permitAll()
-
-                        // API 및 기타 설정
-                        .requestMatchers("/api/v1/auth/**").permitAll()
-                        .requestMatchers("/actuator/health").permitAll()
-                        .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
-
-                        // API 경로는 인증 필요
-                        .requestMatchers("/api/**").authenticated()
-
-                        // 그 외 기타 모든 요청(프론트엔드 라우팅 등) 허용
-                        .anyRequest().permitAll());
+                .authorizeHttpRequests(auth -> {
+                    auth
+                            // 프론트엔드 뷰 허용 (게스트 페이지)
+                            .requestMatchers("/", "/index.html", "/login", "/welcome", "/about").permitAll()
+
+                            // API 및 기타 설정
+                            .requestMatchers("/api/v1/auth/**").permitAll()
+                            .requestMatchers("/actuator/health").permitAll()
+                            // 서명 URL 다운로드 (서명/만료 검증으로 대체)
+                            .requestMatchers(DownloadUrlSigner.DOWNLOAD_PATH).permitAll()
+                            .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
+
+                            // 대량 내보내기 (개인정보/비밀글 포함) / 가져오기 (계정 일괄 생성): 관리자만 허용
+                            .requestMatchers(HttpMethod.GET, BULK_EXPORT_PATHS).hasRole("ADMIN")
+                            .requestMatchers(HttpMethod.POST, BULK_IMPORT_PATHS).hasRole("ADMIN");
+
+                    // API 경로는 인증 필요 (설정 시 메뉴 URI 기반 역할 권한까지 검사)
+                    if (menuAuthorizationProperties.isEnabled()) {
+                        auth.requestMatchers("/api/**").access(menuUrlAuthorizationManager);
+                    } else {
+                        auth.requestMatchers("/api/**").authenticated();
+                    }
+
+                    // 그 외 기타 모든 요청(프론트엔드 라우팅 등) 허용
+                    auth.anyRequest().permitAll();
+                });
 
         return http.build();
     }
@@ -113,6 +143,6 @@ public class SecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(10);
+        return new BCryptPasswordEncoder(passwordHashingProperties.getStrength());
     }
 }
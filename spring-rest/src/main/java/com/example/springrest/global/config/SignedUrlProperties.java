@@ -0,0 +1,58 @@
+package com.example.springrest.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 서명된 다운로드 URL 설정 Properties
+ * application.yml의 app.file.signed-url.* 속성을 바인딩
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.file.signed-url")
+public class SignedUrlProperties {
+    /**
+     * URL 유효 시간 단위
+     * 만료 시각을 이 단위 경계로 맞춰 같은 구간에 발급된 URL이 동일하도록 함 (중간 캐시 적중)
+     * 실제 유효 시간은 ttl ~ 2 * ttl
+     * 기본값: 5분
+     */
+    private Duration ttl = Duration.ofMinutes(5);
+
+    /**
+     * 서명에 사용할 키 ID
+     */
+    private String activeKeyId = "k1";
+
+    /**
+     * 서명 키 목록 (키 ID -> Base64 비밀 키)
+     * 키 교체 시 새 키를 추가하고 activeKeyId를 변경한 뒤, 기존 키는 최대 유효 시간(2 * ttl) 이후 제거
+     * 저장소에 두지 않고 프로필 설정/환경 변수로 주입, local/dev 프로필에서만 생략 가능 (기동 시 임의 키 생성, 재기동/다중 인스턴스 간 URL 호환 불가)
+     */
+    private Map<String, String> keys = new LinkedHashMap<>();
+
+    /**
+     * 서명 URL 다운로드 시 파일 행 캐시 설정 (다운로드 경로에서 DB 조회 생략)
+     */
+    private FileCache fileCache = new FileCache();
+
+    @Data
+    public static class FileCache {
+        /**
+         * 최대 캐시 파일 행 수
+         * 기본값: 10000
+         */
+        private long maximumSize = 10000;
+
+        /**
+         * 항목 유지 시간 (명시적 무효화가 누락되어도 이 시간 후에는 DB 값으로 갱신)
+         * 기본값: 10분
+         */
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+}
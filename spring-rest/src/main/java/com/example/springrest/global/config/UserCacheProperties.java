@@ -0,0 +1,28 @@
+package com.example.springrest.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 사용자 스냅샷 캐시 설정 Properties
+ * application.yml의 app.user-cache.* 속성을 바인딩
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.user-cache")
+public class UserCacheProperties {
+    /**
+     * 최대 캐시 사용자 수
+     * 기본값: 10000
+     */
+    private long maximumSize = 10000;
+
+    /**
+     * 항목 유지 시간 (명시적 무효화가 누락되어도 이 시간 후에는 DB 값으로 갱신)
+     * 기본값: 30초
+     */
+    private Duration ttl = Duration.ofSeconds(30);
+}
@@ -0,0 +1,17 @@
+package com.example.springrest.global.export;
+
+import java.util.function.Function;
+
+/**
+ * 내보내기 컬럼 정의 (CSV 헤더/NDJSON 필드명과 값 추출 함수)
+ *
+ * @param name  컬럼명
+ * @param value 행에서 값을 추출하는 함수
+ * @param <T>   행 타입
+ */
+public record ExportColumn<T>(String name, Function<T, Object> value) {
+
+    public static <T> ExportColumn<T> of(String name, Function<T, Object> value) {
+        return new ExportColumn<>(name, value);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.springrest.global.export;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 내보내기 파일 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+}
@@ -0,0 +1,257 @@
+package com.example.springrest.global.export;
+
+import com.example.springrest.global.config.ExportProperties;
+import com.example.springrest.global.exception.RateLimitException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.boot.autoconfigure.MybatisProperties;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 대량 데이터 스트리밍 내보내기 (CSV / NDJSON)
+ * MyBatis Cursor로 fetch size 단위로 가져온 행을 바로 응답 스트림에 기록하여
+ * 전체 건수와 무관하게 메모리 사용량이 일정함
+ * 일반 요청과 분리된 전용 커넥션 풀(읽기 전용)에서 실행하여 내보내기가 OLTP 커넥션을 고갈시키지 않음
+ */
+@Slf4j
+@Component
+public class StreamingExporter {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    private static final char UTF8_BOM = '\uFEFF';
+
+    private final ExportProperties properties;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter valueWriter;
+    private final HikariDataSource dataSource;
+    private final SqlSessionFactory sqlSessionFactory;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejectedCounter;
+
+    public StreamingExporter(ExportProperties properties, ObjectMapper objectMapper,
+            DataSourceProperties dataSourceProperties, MybatisProperties mybatisProperties,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        // 행마다 flush하면 버퍼/gzip 블록이 무력화되므로 값 단위 flush 해제
+        this.valueWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.meterRegistry = meterRegistry;
+
+        this.dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("export");
+        dataSource.setMaximumPoolSize(properties.getMaxConnections());
+        dataSource.setMinimumIdle(0);
+        dataSource.setConnectionTimeout(properties.getConnectionTimeout().toMillis());
+        dataSource.setReadOnly(true);
+        // PostgreSQL은 autocommit 해제 상태에서만 fetch size 단위 서버 커서로 조회
+        dataSource.setAutoCommit(false);
+
+        this.sqlSessionFactory = buildSqlSessionFactory(mybatisProperties);
+        this.rejectedCounter = Counter.builder("export.rejected").register(meterRegistry);
+    }
+
+    /**
+     * 기본 설정과 같은 매퍼 XML을 로드한 내보내기 전용 SqlSessionFactory
+     * Spring 트랜잭션과 무관하게 전용 풀의 커넥션을 직접 관리
+     */
+    private SqlSessionFactory buildSqlSessionFactory(MybatisProperties mybatisProperties) {
+        org.apache.ibatis.session.Configuration configuration = new org.apache.ibatis.session.Configuration();
+        if (mybatisProperties.getConfiguration() != null) {
+            mybatisProperties.getConfiguration().applyTo(configuration);
+        }
+        configuration.setDefaultFetchSize(properties.getFetchSize());
+        configuration.setDefaultStatementTimeout((int) properties.getStatementTimeout().toSeconds());
+
+        SqlSessionFactoryBean factoryBean = new SqlSessionFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setTransactionFactory(new JdbcTransactionFactory());
+        factoryBean.setConfiguration(configuration);
+        factoryBean.setMapperLocations(mybatisProperties.resolveMapperLocations());
+        if (mybatisProperties.getTypeAliasesPackage() != null) {
+            factoryBean.setTypeAliasesPackage(mybatisProperties.getTypeAliasesPackage());
+        }
+        try {
+            return factoryBean.getObject();
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to build export SqlSessionFactory", e);
+        }
+    }
+
+    /**
+     * 조회 결과를 응답 스트림에 직접 기록
+     * 
+     * @param response 응답
+     * @param name     내보내기 이름 (파일명 접두어, 메트릭 태그)
+     * @param format   파일 형식
+     * @param gzip     gzip 압축 여부 (Content-Encoding: gzip)
+     * @param columns  컬럼 정의
+     * @param query    전용 세션의 매퍼로 Cursor를 여는 함수
+     * @param <T>      행 타입
+     * @throws RateLimitException 전용 풀의 커넥션을 제한 시간 내에 얻지 못한 경우
+     */
+    public <T> void export(HttpServletResponse response, String name, ExportFormat format, boolean gzip,
+            List<ExportColumn<T>> columns, Function<SqlSession, Cursor<T>> query) throws IOException {
+        Connection connection = acquireConnection();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long rows = 0;
+        String outcome = "success";
+
+        try (SqlSession session = sqlSessionFactory.openSession(connection);
+                Cursor<T> cursor = query.apply(session)) {
+            String fileName = name + "-" + LocalDateTime.now().format(FILE_TIMESTAMP) + "." + format.getExtension();
+            response.setContentType(format.getContentType());
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                    ContentDisposition.attachment().filename(fileName, StandardCharsets.UTF_8).build().toString());
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+            if (gzip) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+
+            int bufferSize = (int) properties.getBufferSize().toBytes();
+            OutputStream out = gzip
+                    ? new GZIPOutputStream(response.getOutputStream(), bufferSize)
+                    : response.getOutputStream();
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), bufferSize);
+
+            rows = format == ExportFormat.CSV
+                    ? writeCsv(writer, columns, cursor)
+                    : writeNdjson(writer, columns, cursor);
+            writer.flush();
+            if (out instanceof GZIPOutputStream gzipOut) {
+                gzipOut.finish();
+            }
+            out.flush();
+        } catch (IOException | RuntimeException e) {
+            outcome = "error";
+            log.warn("Export aborted: name={}, rows={}, cause={}", name, rows, e.toString());
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("export.duration").tag("name", name).tag("outcome", outcome)
+                    .register(meterRegistry));
+            Counter.builder("export.rows").tag("name", name).register(meterRegistry).increment(rows);
+        }
+        log.info("Export completed: name={}, format={}, gzip={}, rows={}", name, format, gzip, rows);
+    }
+
+    private Connection acquireConnection() {
+        try {
+            return dataSource.getConnection();
+        } catch (SQLTransientConnectionException e) {
+            rejectedCounter.increment();
+            long retryAfterSeconds = Math.max(1, properties.getConnectionTimeout().toSeconds());
+            throw new RateLimitException("Too many concurrent exports", retryAfterSeconds);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to acquire export connection", e);
+        }
+    }
+
+    private <T> long writeCsv(Writer writer, List<ExportColumn<T>> columns, Cursor<T> cursor) throws IOException {
+        // Excel에서 UTF-8 한글이 깨지지 않도록 BOM 기록
+        writer.write(UTF8_BOM);
+        writeCsvLine(writer, columns.stream().map(ExportColumn::name).toList());
+
+        long rows = 0;
+        for (T row : cursor) {
+            writeCsvLine(writer, columns.stream().map(column -> column.value().apply(row)).toList());
+            rows++;
+        }
+        return rows;
+    }
+
+    private void writeCsvLine(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * RFC 4180 이스케이프, 스프레드시트 수식으로 해석되는 값(=, +, -, @ 시작)은 작은따옴표를 붙여 문자열로 취급
+     */
+    private String csvField(Object value) {
+        String text = toText(value);
+        if (text.isEmpty()) {
+            return text;
+        }
+        char first = text.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r') {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0
+                || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+
+    private String toText(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof Collection<?> collection) {
+            return collection.stream().map(String::valueOf).collect(Collectors.joining(";"));
+        }
+        return String.valueOf(value);
+    }
+
+    private <T> long writeNdjson(Writer writer, List<ExportColumn<T>> columns, Cursor<T> cursor) throws IOException {
+        long rows = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            for (T row : cursor) {
+                generator.writeStartObject();
+                for (ExportColumn<T> column : columns) {
+                    generator.writeFieldName(column.name());
+                    valueWriter.writeValue(generator, column.value().apply(row));
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dataSource.close();
+    }
+}
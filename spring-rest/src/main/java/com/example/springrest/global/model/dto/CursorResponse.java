@@ -0,0 +1,53 @@
+package com.example.springrest.global.model.dto;
+
+import com.example.springrest.global.util.CursorCodec;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(Keyset) 페이징 응답 DTO
+ * 전체 건수 없이 다음 페이지 커서만 제공 (깊은 페이지도 일정 비용)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CursorResponse<T> {
+    private List<T> list;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    @Builder
+    public CursorResponse(List<T> list, int size, boolean hasNext, String nextCursor) {
+        this.list = list;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * size + 1건 조회 결과로 응답 생성
+     * 초과 1건이 있으면 다음 페이지가 있는 것으로 보고 잘라낸 뒤 마지막 항목으로 커서 생성
+     *
+     * @param rows      size + 1건까지 조회한 결과
+     * @param size      페이지 크기
+     * @param cursorKey 항목에서 커서 값을 추출하는 함수
+     * @param <T>       항목 타입
+     * @return CursorResponse
+     */
+    public static <T> CursorResponse<T> of(List<T> rows, int size, Function<T, Object> cursorKey) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? CursorCodec.encode(String.valueOf(cursorKey.apply(content.get(size - 1)))) : null;
+        return CursorResponse.<T>builder()
+                .list(content)
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.springrest.global.model.dto;
 
+import com.example.springrest.global.paging.CountMode;
 import com.github.pagehelper.PageInfo;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -19,14 +20,19 @@ public class PageResponse<T> {
     private int pageNum;
     private int pageSize;
     private int pages;
+    private CountMode countMode; // total 산출 방식
+    private boolean hasNext; // 다음 페이지 존재 여부
 
     @Builder
-    public PageResponse(List<T> list, long total, int pageNum, int pageSize, int pages) {
+    public PageResponse(List<T> list, long total, int pageNum, int pageSize, int pages, CountMode countMode,
+            boolean hasNext) {
         this.list = list;
         this.total = total;
         this.pageNum = pageNum;
         this.pageSize = pageSize;
         this.pages = pages;
+        this.countMode = countMode;
+        this.hasNext = hasNext;
     }
 
     /**
@@ -39,12 +45,28 @@ public class PageResponse<T> {
      * @return PageResponse
      */
     public static <E, D> PageResponse<D> of(PageInfo<E> pageInfo, List<D> content) {
+        return of(pageInfo, content, CountMode.EXACT);
+    }
+
+    /**
+     * PageInfo 객체를 PageResponse로 변환 (건수 산출 방식 지정)
+     *
+     * @param pageInfo  PageHelper의 PageInfo
+     * @param content   변환된 데이터 리스트
+     * @param countMode total 산출 방식
+     * @param <E>       엔티티 타입
+     * @param <D>       DTO 타입
+     * @return PageResponse
+     */
+    public static <E, D> PageResponse<D> of(PageInfo<E> pageInfo, List<D> content, CountMode countMode) {
         return PageResponse.<D>builder()
                 .list(content)
                 .total(pageInfo.getTotal())
                 .pageNum(pageInfo.getPageNum())
                 .pageSize(pageInfo.getPageSize())
                 .pages(pageInfo.getPages())
+                .countMode(countMode)
+                .hasNext(pageInfo.isHasNextPage())
                 .build();
     }
 }
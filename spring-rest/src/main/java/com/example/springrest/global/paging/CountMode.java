@@ -0,0 +1,15 @@
+package com.example.springrest.global.paging;
+
+/**
+ * 페이징 전체 건수 산출 방식
+ * EXACT: 매 요청 COUNT(*) 실행
+ * CACHED: 정규화된 검색 조건별 COUNT(*) 결과를 TTL 동안 재사용 (쓰기 시 무효화)
+ * ESTIMATED: 검색 조건 없는 목록에 한해 PostgreSQL 통계 기반 플래너 추정치 사용 (불가 시 CACHED)
+ * HAS_NEXT: 건수를 구하지 않고 size + 1건 조회로 다음 페이지 존재 여부만 확인
+ */
+public enum CountMode {
+    EXACT,
+    CACHED,
+    ESTIMATED,
+    HAS_NEXT
+}
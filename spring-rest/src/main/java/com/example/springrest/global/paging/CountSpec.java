@@ -0,0 +1,21 @@
+package com.example.springrest.global.paging;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 전체 건수 산출 대상 정의
+ *
+ * @param scope        무효화 단위 (예: "board", "user")
+ * @param key          정규화된 검색 조건 (캐시 키)
+ * @param estimatePlan 검색 조건이 없을 때 건수 추정용 EXPLAIN 결과 조회 (필터가 있으면 null)
+ */
+public record CountSpec(String scope, String key, Supplier<List<String>> estimatePlan) {
+
+    /**
+     * 추정 불가(필터 적용) 대상 생성
+     */
+    public static CountSpec of(String scope, String key) {
+        return new CountSpec(scope, key, null);
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.springrest.global.paging;
+
+import com.example.springrest.global.config.PagingProperties;
+import com.example.springrest.global.model.dto.PageResponse;
+import com.example.springrest.global.util.TransactionUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.pagehelper.PageHelper;
+import com.github.pagehelper.PageInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 페이징 조회 실행기
+ * CountMode에 따라 PageHelper COUNT(*) 실행 여부와 전체 건수 출처를 결정
+ * CACHED 모드 캐시는 scope별 버전을 키에 포함하여 쓰기 시 버전 증가만으로 일괄 무효화
+ */
+@Slf4j
+@Component
+public class PagedQueryExecutor {
+
+    private static final Pattern PLAN_ROWS = Pattern.compile("rows=(\\d+)");
+
+    private final PagingProperties properties;
+    private final Cache<String, Long> countCache;
+    private final Map<String, AtomicLong> scopeVersions = new ConcurrentHashMap<>();
+
+    public PagedQueryExecutor(PagingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.countCache = Caffeine.newBuilder()
+                .maximumSize(properties.getCountCacheSize())
+                .expireAfterWrite(properties.getCountCacheTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, countCache, "paging.count");
+    }
+
+    /**
+     * 페이지 조회
+     * 
+     * @param page    페이지 번호 (1부터)
+     * @param size    페이지 크기
+     * @param orderBy PageHelper 정렬 구문 (쿼리에 ORDER BY가 있으면 null)
+     * @param mode    건수 산출 방식 (null이면 설정 기본값)
+     * @param spec    건수 캐시/추정 대상
+     * @param query   목록 조회 (PageHelper 적용 대상 매퍼 호출)
+     * @param <T>     항목 타입
+     * @return 페이징 응답 (countMode에 실제 사용된 방식 표시)
+     */
+    public <T> PageResponse<T> fetch(int page, int size, String orderBy, CountMode mode, CountSpec spec,
+            Supplier<List<T>> query) {
+        CountMode requested = mode != null ? mode : properties.getDefaultCountMode();
+        switch (requested) {
+            case HAS_NEXT:
+                return fetchHasNext(page, size, orderBy, query);
+            case ESTIMATED:
+                Long estimate = estimate(spec);
+                if (estimate != null) {
+                    return fetchWithTotal(page, size, orderBy, query, estimate, CountMode.ESTIMATED);
+                }
+                return fetchCached(page, size, orderBy, spec, query);
+            case CACHED:
+                return fetchCached(page, size, orderBy, spec, query);
+            default:
+                return fetchExact(page, size, orderBy, query);
+        }
+    }
+
+    /**
+     * scope의 캐시된 건수 무효화 (즉시 + 트랜잭션 커밋 후)
+     * 
+     * @param scope 무효화 단위
+     */
+    public void invalidate(String scope) {
+        AtomicLong version = scopeVersions.computeIfAbsent(scope, key -> new AtomicLong());
+        version.incrementAndGet();
+        TransactionUtils.afterCommit(version::incrementAndGet);
+    }
+
+    private <T> PageResponse<T> fetchExact(int page, int size, String orderBy, Supplier<List<T>> query) {
+        PageHelper.startPage(page, size, orderBy);
+        List<T> list = query.get();
+        return PageResponse.of(new PageInfo<>(list), list);
+    }
+
+    private <T> PageResponse<T> fetchCached(int page, int size, String orderBy, CountSpec spec,
+            Supplier<List<T>> query) {
+        String cacheKey = spec.scope() + ":" + scopeVersions.computeIfAbsent(spec.scope(), key -> new AtomicLong()).get()
+                + ":" + spec.key();
+        Long cached = countCache.getIfPresent(cacheKey);
+        if (cached != null) {
+            return fetchWithTotal(page, size, orderBy, query, cached, CountMode.CACHED);
+        }
+
+        PageHelper.startPage(page, size, orderBy);
+        List<T> list = query.get();
+        PageInfo<T> pageInfo = new PageInfo<>(list);
+        countCache.put(cacheKey, pageInfo.getTotal());
+        return PageResponse.of(pageInfo, list, CountMode.CACHED);
+    }
+
+    private <T> PageResponse<T> fetchWithTotal(int page, int size, String orderBy, Supplier<List<T>> query,
+            long total, CountMode countMode) {
+        PageHelper.startPage(page, size, false).setOrderBy(orderBy);
+        List<T> list = query.get();
+        // 추정치가 실제 조회 결과보다 작을 수 있으므로 현재 페이지까지의 건수로 보정
+        long effectiveTotal = Math.max(total, (long) (page - 1) * size + list.size());
+        int pages = (int) ((effectiveTotal + size - 1) / size);
+        return PageResponse.<T>builder()
+                .list(list)
+                .total(effectiveTotal)
+                .pageNum(page)
+                .pageSize(size)
+                .pages(pages)
+                .countMode(countMode)
+                .hasNext(page < pages)
+                .build();
+    }
+
+    /**
+     * size + 1건 조회로 다음 페이지 여부만 판단
+     * total/pages는 현재까지 확인된 하한값
+     */
+    private <T> PageResponse<T> fetchHasNext(int page, int size, String orderBy, Supplier<List<T>> query) {
+        int offset = (Math.max(page, 1) - 1) * size;
+        PageHelper.offsetPage(offset, size + 1, false).setOrderBy(orderBy);
+        List<T> rows = query.get();
+        boolean hasNext = rows.size() > size;
+        List<T> list = hasNext ? rows.subList(0, size) : rows;
+        return PageResponse.<T>builder()
+                .list(list)
+                .total(offset + rows.size())
+                .pageNum(page)
+                .pageSize(size)
+                .pages(hasNext ? page + 1 : page)
+                .countMode(CountMode.HAS_NEXT)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * EXPLAIN 결과 최상위 노드의 rows 추정치 사용
+     * 
+     * @return 추정 건수 (추정 불가 시 null)
+     */
+    private Long estimate(CountSpec spec) {
+        if (spec.estimatePlan() == null) {
+            return null;
+        }
+        try {
+            List<String> plan = spec.estimatePlan().get();
+            if (plan != null && !plan.isEmpty()) {
+                Matcher matcher = PLAN_ROWS.matcher(plan.get(0));
+                if (matcher.find()) {
+                    return Long.parseLong(matcher.group(1));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Count estimate failed for {}: {}", spec.scope(), e.getMessage());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.springrest.global.ratelimit;
+
+import com.example.springrest.global.util.ClientIpResolver;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 경로별 Rate Limit 적용 인터셉터
+ * 요청 본문 파싱, DB 조회, 비밀번호 검증 이전에 허용량을 확인하고
+ * 초과 시 RateLimitException을 던져 GlobalExceptionHandler에서 429로 응답
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final String LOGIN_PATH = "/api/v1/auth/login";
+    private static final String REFRESH_PATH = "/api/v1/auth/refresh";
+
+    private final RateLimiter rateLimiter;
+    private final ClientIpResolver clientIpResolver;
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull Object handler) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+
+        if (LOGIN_PATH.equals(path)) {
+            rateLimiter.acquire(RateLimitPolicy.LOGIN_IP, clientIpResolver.resolve(request));
+        } else if (REFRESH_PATH.equals(path)) {
+            rateLimiter.acquire(RateLimitPolicy.REFRESH, clientIpResolver.resolve(request));
+        } else {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.isAuthenticated()
+                    && !(authentication instanceof AnonymousAuthenticationToken)) {
+                rateLimiter.acquire(RateLimitPolicy.API, authentication.getName());
+            }
+        }
+        return true;
+    }
+}
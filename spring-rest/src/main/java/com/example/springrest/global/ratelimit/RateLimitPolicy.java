@@ -0,0 +1,26 @@
+package com.example.springrest.global.ratelimit;
+
+import com.example.springrest.global.config.RateLimitProperties;
+
+import java.util.function.Function;
+
+/**
+ * Rate Limit 정책
+ * 경로/키 유형별 허용량을 RateLimitProperties에서 조회
+ */
+public enum RateLimitPolicy {
+    LOGIN_IP(RateLimitProperties::getLoginIp),
+    LOGIN_USER(RateLimitProperties::getLoginUser),
+    REFRESH(RateLimitProperties::getRefresh),
+    API(RateLimitProperties::getApi);
+
+    private final Function<RateLimitProperties, RateLimitProperties.Limit> limitResolver;
+
+    RateLimitPolicy(Function<RateLimitProperties, RateLimitProperties.Limit> limitResolver) {
+        this.limitResolver = limitResolver;
+    }
+
+    public RateLimitProperties.Limit limitOf(RateLimitProperties properties) {
+        return limitResolver.apply(properties);
+    }
+}
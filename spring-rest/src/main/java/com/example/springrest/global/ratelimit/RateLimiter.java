@@ -0,0 +1,152 @@
+package com.example.springrest.global.ratelimit;
+
+import com.example.springrest.global.config.RateLimitProperties;
+import com.example.springrest.global.exception.RateLimitException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인메모리 Rate Limiter
+ * 키(IP, 사용자 아이디)별 토큰 버킷을 GCRA 방식으로 구현하여
+ * 버킷 상태를 AtomicLong 하나(이론적 도착 시각)로 관리하고 CAS로 갱신 (락 없음)
+ * 버킷 맵은 정책별 ConcurrentHashMap으로 분리되어 스트라이프 단위로 경합을 분산
+ * 키 개수가 상한에 도달하면 제한이 가장 덜 걸린 버킷부터 일부를 제거하여 (제한 해제 없이) 새 키를 수용
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    /**
+     * 키 상한 도달 시 한 번에 제거할 비율 (정렬 비용을 여러 신규 키에 분산)
+     */
+    private static final int EVICT_DIVISOR = 10;
+
+    private final RateLimitProperties properties;
+    private final Map<RateLimitPolicy, ConcurrentHashMap<String, Bucket>> buckets = new EnumMap<>(
+            RateLimitPolicy.class);
+    private final Map<RateLimitPolicy, Counter> rejectedCounters = new EnumMap<>(RateLimitPolicy.class);
+    private final Map<RateLimitPolicy, Counter> evictedCounters = new EnumMap<>(RateLimitPolicy.class);
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        for (RateLimitPolicy policy : RateLimitPolicy.values()) {
+            ConcurrentHashMap<String, Bucket> map = new ConcurrentHashMap<>();
+            buckets.put(policy, map);
+            rejectedCounters.put(policy, Counter.builder("ratelimit.rejected")
+                    .tag("policy", policy.name())
+                    .register(meterRegistry));
+            evictedCounters.put(policy, Counter.builder("ratelimit.evicted")
+                    .tag("policy", policy.name())
+                    .register(meterRegistry));
+            Gauge.builder("ratelimit.keys", map, Map::size)
+                    .tag("policy", policy.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 요청 1건에 대한 허용량 소비
+     *
+     * @param policy 적용 정책
+     * @param key    제한 키 (IP, 사용자 아이디 등)
+     * @throws RateLimitException 허용량 초과 시 (retryAfterSeconds 포함)
+     */
+    public void acquire(RateLimitPolicy policy, String key) {
+        if (!properties.isEnabled() || key == null || key.isEmpty()) {
+            return;
+        }
+
+        RateLimitProperties.Limit limit = policy.limitOf(properties);
+        long periodNanos = limit.getPeriod().toNanos();
+        long interval = periodNanos / Math.max(1, limit.getCapacity());
+        long now = System.nanoTime();
+
+        Bucket bucket = bucketFor(policy, key, now);
+
+        while (true) {
+            long tat = bucket.tat.get();
+            long newTat = Math.max(tat, now) + interval;
+            long waitNanos = newTat - now - periodNanos;
+            if (waitNanos > 0) {
+                rejectedCounters.get(policy).increment();
+                long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+                throw new RateLimitException("Too many requests", retryAfterSeconds);
+            }
+            if (bucket.tat.compareAndSet(tat, newTat)) {
+                return;
+            }
+        }
+    }
+
+    private Bucket bucketFor(RateLimitPolicy policy, String key, long now) {
+        ConcurrentHashMap<String, Bucket> map = buckets.get(policy);
+        Bucket bucket = map.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+
+        if (map.size() >= properties.getMaxKeys()) {
+            evictIdle(map, now);
+            if (map.size() >= properties.getMaxKeys()) {
+                evictLeastLimited(policy, map);
+            }
+        }
+        return map.computeIfAbsent(key, k -> new Bucket(now));
+    }
+
+    /**
+     * 키 상한 초과 시 이론적 도착 시각이 가장 이른(충전에 가장 가까운) 버킷부터 상한의 1/10 제거
+     * 제한이 걸려 있는 키(무차별 대입 대상 등)는 가장 늦게 제거되므로 새 키를 대량으로 만들어도 기존 제한이 풀리지 않음
+     */
+    private void evictLeastLimited(RateLimitPolicy policy, ConcurrentHashMap<String, Bucket> map) {
+        synchronized (map) {
+            int maxKeys = properties.getMaxKeys();
+            if (map.size() < maxKeys) {
+                return;
+            }
+            long[] tats = map.values().stream().mapToLong(bucket -> bucket.tat.get()).sorted().toArray();
+            int evictCount = Math.min(tats.length, Math.max(1, maxKeys / EVICT_DIVISOR));
+            long threshold = tats[evictCount - 1];
+            int before = map.size();
+            map.entrySet().removeIf(entry -> entry.getValue().tat.get() <= threshold);
+            int evicted = before - map.size();
+            evictedCounters.get(policy).increment(evicted);
+            log.warn("Rate limit key table full for policy {}, evicted {} least limited keys", policy, evicted);
+        }
+    }
+
+    /**
+     * 완전히 충전된(유휴) 버킷 정리
+     * 충전이 끝난 버킷은 새 버킷과 동일하므로 제거해도 제한 결과가 바뀌지 않음
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.cleanup-interval:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        buckets.values().forEach(map -> evictIdle(map, now));
+    }
+
+    private void evictIdle(ConcurrentHashMap<String, Bucket> map, long now) {
+        map.entrySet().removeIf(entry -> entry.getValue().tat.get() - now <= 0);
+    }
+
+    /**
+     * 버킷 상태: 이론적 도착 시각 (Theoretical Arrival Time, nanoTime 기준)
+     */
+    private static final class Bucket {
+        private final AtomicLong tat;
+
+        private Bucket(long now) {
+            this.tat = new AtomicLong(now);
+        }
+    }
+}
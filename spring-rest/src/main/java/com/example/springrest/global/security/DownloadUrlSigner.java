@@ -0,0 +1,165 @@
+package com.example.springrest.global.security;
+
+import com.example.springrest.global.config.SignedUrlProperties;
+import com.example.springrest.global.exception.InvalidTokenException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 첨부파일 다운로드 URL 서명/검증
+ * 파일 일련번호, 내용 식별자(ETag), 만료 시각만 URL에 담고 HMAC-SHA256으로 서명
+ * 저장 경로는 URL에 담지 않으며, 다운로드 시 사용 중인 파일 행(캐시)을 확인하여 내용 식별자가 같을 때만 전송
+ * 키 ID(kid)를 함께 서명하므로 키를 교체해도 목록에 남아 있는 기존 키로 발급된 URL은 만료 전까지 유효
+ * 서명 키는 local/dev 프로필에서만 생략 가능 (그 외에는 기동 실패)
+ */
+@Slf4j
+@Component
+public class DownloadUrlSigner {
+
+    public static final String DOWNLOAD_PATH = "/api/v1/boards/board/files/signed";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+    private static final int FIELD_COUNT = 5;
+    private static final Profiles EPHEMERAL_KEY_PROFILES = Profiles.of("local", "dev");
+
+    private final SignedUrlProperties properties;
+    private final Map<String, SecretKeySpec> keys = new LinkedHashMap<>();
+    private final String activeKeyId;
+    private final Clock clock;
+
+    public DownloadUrlSigner(SignedUrlProperties properties, Environment environment) {
+        this(properties, environment.acceptsProfiles(EPHEMERAL_KEY_PROFILES), Clock.systemUTC());
+    }
+
+    DownloadUrlSigner(SignedUrlProperties properties, boolean allowEphemeralKey, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+        properties.getKeys().forEach((kid, secret) -> {
+            if (secret == null || secret.isBlank()) {
+                return;
+            }
+            keys.put(kid, new SecretKeySpec(Base64.getDecoder().decode(secret), HMAC_ALGORITHM));
+        });
+        if (keys.isEmpty()) {
+            if (!allowEphemeralKey) {
+                throw new IllegalStateException(
+                        "Download URL signing key is required (app.file.signed-url.keys) outside local/dev profiles");
+            }
+            log.warn("No download URL signing keys configured; using an ephemeral key");
+            byte[] secret = new byte[32];
+            new SecureRandom().nextBytes(secret);
+            keys.put(properties.getActiveKeyId(), new SecretKeySpec(secret, HMAC_ALGORITHM));
+        }
+        if (!keys.containsKey(properties.getActiveKeyId())) {
+            throw new IllegalStateException("Unknown active signing key id: " + properties.getActiveKeyId());
+        }
+        this.activeKeyId = properties.getActiveKeyId();
+    }
+
+    /**
+     * 서명된 다운로드 URL 발급
+     * 
+     * @param download 다운로드 대상 (expiresAt은 무시하고 새로 계산)
+     * @return 만료 시각이 채워진 대상과 URL
+     */
+    public SignedDownload sign(SignedDownload download) {
+        long expiresAt = currentExpiresAt();
+        String payload = String.join(SEPARATOR, VERSION, activeKeyId, String.valueOf(expiresAt),
+                String.valueOf(download.fileId()), download.etag());
+        String token = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        String signature = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(hmac(keys.get(activeKeyId), token));
+
+        return new SignedDownload(download.fileId(), download.etag(), expiresAt,
+                DOWNLOAD_PATH + "?t=" + token + "&s=" + signature);
+    }
+
+    /**
+     * 지금 발급하는 URL의 만료 시각
+     * ttl 단위 경계로 맞추므로 같은 구간 안에서는 값이 같음 (서명 URL을 담은 응답의 버전으로 사용)
+     * 
+     * @return 만료 시각 (epoch 초)
+     */
+    public long currentExpiresAt() {
+        long ttlSeconds = Math.max(1, properties.getTtl().toSeconds());
+        return (clock.millis() / 1000 / ttlSeconds + 2) * ttlSeconds;
+    }
+
+    /**
+     * 서명된 다운로드 URL 검증
+     * 
+     * @param token     URL의 t 파라미터
+     * @param signature URL의 s 파라미터
+     * @return 다운로드 대상 (파일 일련번호, 내용 식별자, 만료 시각)
+     * @throws InvalidTokenException 서명이 올바르지 않거나 만료된 경우
+     */
+    public SignedDownload verify(String token, String signature) {
+        String[] fields;
+        byte[] provided;
+        try {
+            fields = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                    .split("\\|", FIELD_COUNT);
+            provided = Base64.getUrlDecoder().decode(signature);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidTokenException("Invalid download URL");
+        }
+        if (fields.length != FIELD_COUNT || !VERSION.equals(fields[0])) {
+            throw new InvalidTokenException("Invalid download URL");
+        }
+
+        SecretKeySpec key = keys.get(fields[1]);
+        if (key == null || !MessageDigest.isEqual(hmac(key, token), provided)) {
+            throw new InvalidTokenException("Invalid download URL signature");
+        }
+
+        long expiresAt;
+        Integer fileId;
+        try {
+            expiresAt = Long.parseLong(fields[2]);
+            fileId = Integer.valueOf(fields[3]);
+        } catch (NumberFormatException e) {
+            throw new InvalidTokenException("Invalid download URL");
+        }
+        if (clock.millis() / 1000 >= expiresAt) {
+            throw new InvalidTokenException("Download URL expired");
+        }
+        return new SignedDownload(fileId, fields[4], expiresAt, null);
+    }
+
+    private byte[] hmac(SecretKeySpec key, String token) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(token.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC signing failed", e);
+        }
+    }
+
+    /**
+     * 서명 대상 다운로드 정보
+     * 
+     * @param fileId    파일 일련번호
+     * @param etag      내용 식별자 (따옴표 제외, 발급 후 내용이 바뀐 파일의 URL을 무효화)
+     * @param expiresAt 만료 시각 (epoch 초)
+     * @param url       서명된 URL (발급 시에만)
+     */
+    public record SignedDownload(Integer fileId, String etag, long expiresAt, String url) {
+    }
+}
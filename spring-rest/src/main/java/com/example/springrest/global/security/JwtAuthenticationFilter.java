@@ -1,5 +1,7 @@
 package com.example.springrest.global.security;
 
+import com.example.springrest.domain.user.model.entity.UserInfo;
+import com.example.springrest.domain.user.service.UserSnapshotCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,6 +19,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -29,6 +32,7 @@ import java.util.stream.Collectors;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final UserSnapshotCache userSnapshotCache;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
@@ -37,14 +41,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = extractJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-                String userId = jwtTokenProvider.extractUserId(jwt);
+            if (StringUtils.hasText(jwt)) {
+                // 서명 검증과 Claims 파싱을 한 번만 수행 (반복 토큰은 캐시 사용)
+                JwtPrincipal principal = jwtTokenProvider.verify(jwt);
+                String userId = principal.userId();
+
+                // 사용자 상태/역할 확인 (스냅샷 캐시, 히트 시 DB 조회 없음)
+                if (!isAcceptable(principal)) {
+                    filterChain.doFilter(request, response);
+                    return;
+                }
 
                 // UserDetails 생성 (간소화된 버전 - 실제로는 DB 조회 필요)
                 UserDetails userDetails = org.springframework.security.core.userdetails.User.builder()
                         .username(userId)
                         .password("") // JWT 검증 후이므로 비밀번호 불필요
-                        .authorities(jwtTokenProvider.extractRoles(jwt).stream()
+                        .authorities(principal.roles().stream()
                                 .map(role -> new SimpleGrantedAuthority(role.name()))
                                 .collect(Collectors.toList()))
                         .build();
@@ -66,6 +78,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 토큰 사용자가 현재도 유효한지 확인
+     * 사용자가 없거나 비활성 상태이면, 또는 토큰 발급 이후 역할이 변경되었으면 거부
+     * 
+     * @param principal 검증된 토큰 정보
+     * @return 인증 허용 여부
+     */
+    private boolean isAcceptable(JwtPrincipal principal) {
+        Optional<UserInfo> snapshot = userSnapshotCache.get(principal.userId());
+        if (snapshot.isEmpty()) {
+            log.warn("JWT rejected: user not found: {}", principal.userId());
+            return false;
+        }
+        UserInfo user = snapshot.get();
+        if (!UserSnapshotCache.isActive(user)) {
+            log.warn("JWT rejected: user disabled: {}", principal.userId());
+            return false;
+        }
+        if (!principal.roles().equals(user.getRoles())) {
+            log.warn("JWT rejected: roles changed since issue for user: {}", principal.userId());
+            return false;
+        }
+        return true;
+    }
+
     /**
      * Authorization 헤더에서 JWT 토큰 추출
      * 
@@ -0,0 +1,33 @@
+package com.example.springrest.global.security;
+
+import com.example.springrest.domain.user.model.enums.UserRole;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 검증된 JWT 토큰의 주체 정보 (불변)
+ * 서명 검증과 파싱을 한 번만 수행한 결과를 담아 필터/서비스에서 재사용
+ *
+ * @param userId    사용자 아이디 (subject)
+ * @param roles     사용자 역할 목록 (수정 불가)
+ * @param type      토큰 유형 ("ACCESS" / "REFRESH")
+ * @param expiresAt 토큰 만료 시각 (exp)
+ */
+public record JwtPrincipal(String userId, Set<UserRole> roles, String type, Instant expiresAt) {
+
+    public JwtPrincipal {
+        roles = Collections.unmodifiableSet(roles.isEmpty()
+                ? EnumSet.noneOf(UserRole.class)
+                : EnumSet.copyOf(roles));
+    }
+
+    /**
+     * 주어진 시각 기준 만료 여부
+     */
+    public boolean isExpiredAt(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -3,21 +3,32 @@ package com.example.springrest.global.security;
 import com.example.springrest.global.config.JwtProperties;
 import com.example.springrest.global.exception.InvalidTokenException;
 import com.example.springrest.domain.user.model.enums.UserRole;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
 import java.util.stream.Collectors;
 
 /**
  * JWT 토큰 생성/검증 유틸리티
  * HS256 알고리즘 사용, 30분 만료
+ * 검증된 토큰은 다이제스트 기준으로 만료 시각까지 캐시하여 재검증 비용을 줄임
  */
 @Slf4j
 @Component
@@ -25,7 +36,44 @@ import java.util.stream.Collectors;
 public class JwtTokenProvider {
 
     private final JwtProperties jwtProperties;
+    private final MeterRegistry meterRegistry;
     private SecretKey key;
+    private JwtParser parser;
+    private Cache<String, JwtPrincipal> principalCache;
+
+    /**
+     * 검증 캐시 초기화
+     * 항목별 만료 시각을 토큰의 exp로 지정하여 캐시가 토큰보다 오래 살지 않도록 함
+     */
+    @PostConstruct
+    void initPrincipalCache() {
+        if (jwtProperties.getPrincipalCacheSize() <= 0) {
+            return;
+        }
+        principalCache = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getPrincipalCacheSize())
+                .expireAfter(new Expiry<String, JwtPrincipal>() {
+                    @Override
+                    public long expireAfterCreate(String digest, JwtPrincipal principal, long currentTime) {
+                        return Math.max(0, Duration.between(Instant.now(), principal.expiresAt()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String digest, JwtPrincipal principal, long currentTime,
+                            long currentDuration) {
+                        return expireAfterCreate(digest, principal, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String digest, JwtPrincipal principal, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principalCache, "jwt.principal");
+    }
 
     /**
      * SecretKey 초기화 (지연 초기화)
@@ -37,6 +85,18 @@ public class JwtTokenProvider {
         return key;
     }
 
+    /**
+     * JwtParser 초기화 (지연 초기화, 스레드 안전하여 재사용)
+     */
+    private JwtParser getParser() {
+        if (parser == null) {
+            parser = Jwts.parser()
+                    .verifyWith(getKey())
+                    .build();
+        }
+        return parser;
+    }
+
     /**
      * JWT 토큰 생성
      * 
@@ -81,6 +141,35 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /**
+     * JWT 토큰을 한 번만 검증/파싱하여 주체 정보 반환
+     * 동일 토큰의 재요청은 만료 시각까지 캐시에서 서명 검증 없이 반환
+     * 
+     * @param token JWT 토큰
+     * @return 검증된 주체 정보
+     * @throws InvalidTokenException 토큰 형식이 잘못되었거나 서명이 유효하지 않을 때
+     * @throws ExpiredJwtException   토큰이 만료되었을 때
+     */
+    public JwtPrincipal verify(String token) {
+        if (principalCache == null) {
+            return parsePrincipal(token);
+        }
+
+        String digest = digest(token);
+        JwtPrincipal cached = principalCache.getIfPresent(digest);
+        if (cached != null) {
+            if (!cached.isExpiredAt(Instant.now())) {
+                return cached;
+            }
+            // 만료 직후 아직 정리되지 않은 항목은 재파싱하여 ExpiredJwtException 발생시킴
+            principalCache.invalidate(digest);
+        }
+
+        JwtPrincipal principal = parsePrincipal(token);
+        principalCache.put(digest, principal);
+        return principal;
+    }
+
     /**
      * JWT 토큰에서 사용자 아이디 추출
      * 
@@ -88,7 +177,7 @@ public class JwtTokenProvider {
      * @return 사용자 아이디
      */
     public String extractUserId(String token) {
-        return getClaims(token).getSubject();
+        return verify(token).userId();
     }
 
     /**
@@ -98,13 +187,7 @@ public class JwtTokenProvider {
      * @return 사용자 역할 목록
      */
     public List<UserRole> extractRoles(String token) {
-        String rolesString = getClaims(token).get("role", String.class);
-        if (rolesString == null || rolesString.isEmpty()) {
-            return Collections.emptyList();
-        }
-        return Arrays.stream(rolesString.split(","))
-                .map(UserRole::valueOf)
-                .collect(Collectors.toList());
+        return new ArrayList<>(verify(token).roles());
     }
 
     /**
@@ -116,12 +199,22 @@ public class JwtTokenProvider {
      * @throws ExpiredJwtException   토큰이 만료되었을 때
      */
     public boolean validateToken(String token) {
+        verify(token);
+        return true;
+    }
+
+    /**
+     * JWT 토큰 서명 검증 및 Claims 파싱 (캐시 미사용)
+     * 
+     * @param token JWT 토큰
+     * @return 검증된 주체 정보
+     */
+    private JwtPrincipal parsePrincipal(String token) {
+        Claims claims;
         try {
-            Jwts.parser()
-                    .verifyWith(getKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            claims = getParser()
+                    .parseSignedClaims(token)
+                    .getPayload();
         } catch (ExpiredJwtException e) {
             log.warn("JWT token expired: {}", e.getMessage());
             throw e;
@@ -135,20 +228,33 @@ public class JwtTokenProvider {
             log.warn("JWT token invalid: {}", e.getMessage());
             throw new InvalidTokenException("Invalid JWT token", e);
         }
+
+        EnumSet<UserRole> roles = EnumSet.noneOf(UserRole.class);
+        String rolesString = claims.get("role", String.class);
+        if (rolesString != null && !rolesString.isEmpty()) {
+            try {
+                for (String role : rolesString.split(",")) {
+                    roles.add(UserRole.valueOf(role));
+                }
+            } catch (IllegalArgumentException e) {
+                throw new InvalidTokenException("Invalid JWT role claim", e);
+            }
+        }
+
+        return new JwtPrincipal(claims.getSubject(), roles, claims.get("type", String.class),
+                claims.getExpiration().toInstant());
     }
 
     /**
-     * JWT 토큰에서 Claims 추출
-     * 
-     * @param token JWT 토큰
-     * @return Claims
+     * 캐시 키로 사용할 토큰 다이제스트 (원본 토큰을 메모리에 보관하지 않기 위함)
      */
-    private Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
     /**
@@ -0,0 +1,102 @@
+package com.example.springrest.global.security;
+
+import com.example.springrest.domain.menu.service.MenuUrlIndex;
+import com.example.springrest.global.config.MenuAuthorizationProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 메뉴 URI 기반 API 권한 검사
+ * 인증된 사용자의 역할로 MenuUrlIndex를 조회하여 메뉴에 할당되지 않은 역할의 접근을 거부 (403)
+ * app.menu-auth.api-prefix 하위 경로만 검사하며, 그 외 경로는 인증 여부만 확인
+ * 경로는 디코딩/정규화(세미콜론 파라미터 제거, 중복 슬래시 정리) 후 비교하여 인코딩된 URI로 우회할 수 없도록 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MenuUrlAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private final MenuUrlIndex menuUrlIndex;
+    private final MenuAuthorizationProperties properties;
+    private final UrlPathHelper urlPathHelper = createUrlPathHelper();
+
+    private static UrlPathHelper createUrlPathHelper() {
+        UrlPathHelper helper = new UrlPathHelper();
+        helper.setUrlDecode(true);
+        helper.setRemoveSemicolonContent(true);
+        return helper;
+    }
+
+    @Override
+    public AuthorizationResult authorize(Supplier<Authentication> authenticationSupplier,
+            RequestAuthorizationContext context) {
+        Authentication authentication = authenticationSupplier.get();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return new AuthorizationDecision(false);
+        }
+
+        String path = menuPath(context.getRequest());
+        if (path == null) {
+            return new AuthorizationDecision(true);
+        }
+
+        List<String> roleIds = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+        if (roleIds.stream().anyMatch(properties.getBypassRoles()::contains)) {
+            return new AuthorizationDecision(true);
+        }
+
+        boolean allowed = menuUrlIndex.isAllowed(path, roleIds);
+        if (!allowed) {
+            log.warn("Menu authorization denied: user={}, path={}", authentication.getName(), path);
+        }
+        return new AuthorizationDecision(allowed);
+    }
+
+    /**
+     * @deprecated {@link #authorize(Supplier, RequestAuthorizationContext)} 사용
+     */
+    @Deprecated
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authenticationSupplier,
+            RequestAuthorizationContext context) {
+        return (AuthorizationDecision) authorize(authenticationSupplier, context);
+    }
+
+    /**
+     * 요청 경로를 메뉴 URI 기준 경로로 변환
+     * 
+     * @param request HTTP 요청
+     * @return 메뉴 URI 기준 경로 (검사 대상이 아니면 null)
+     */
+    private String menuPath(HttpServletRequest request) {
+        // Spring MVC 라우팅과 같은 기준의 경로 (디코딩, ;jsessionid 등 제거, // 정리)
+        String path = urlPathHelper.getPathWithinApplication(request);
+        String prefix = properties.getApiPrefix();
+        if (!path.startsWith(prefix) || (path.length() > prefix.length() && path.charAt(prefix.length()) != '/')) {
+            return null;
+        }
+        String menuPath = path.substring(prefix.length());
+        for (String exclude : properties.getExcludes()) {
+            if (menuPath.equals(exclude) || menuPath.startsWith(exclude + "/")) {
+                return null;
+            }
+        }
+        return menuPath;
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.springrest.global.security;
+
+import com.example.springrest.global.config.PasswordHashingProperties;
+import com.example.springrest.global.exception.RateLimitException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 비밀번호 해시 전용 실행기
+ * BCrypt 연산을 고정 크기 스레드 풀과 제한된 대기열에서 수행하여
+ * 로그인 폭주 시에도 요청 처리 스레드 전체가 해시 연산에 묶이지 않도록 함
+ * 대기열이 가득 차거나 대기 시간이 초과되면 해시 없이 즉시 거절 (429)
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingProperties properties;
+    private final ThreadPoolExecutor executor;
+    private final ExecutorService bulkExecutor;
+    private final Timer matchesTimer;
+    private final Timer encodeTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder, PasswordHashingProperties properties,
+            MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.properties = properties;
+
+        AtomicInteger threadSeq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(properties.getThreads(), properties.getThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadSeq.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        AtomicInteger bulkThreadSeq = new AtomicInteger();
+        this.bulkExecutor = Executors.newFixedThreadPool(Math.max(1, properties.getBulkThreads()), runnable -> {
+            Thread thread = new Thread(runnable, "password-hash-bulk-" + bulkThreadSeq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.matchesTimer = Timer.builder("password.hash.duration").tag("op", "matches").register(meterRegistry);
+        this.encodeTimer = Timer.builder("password.hash.duration").tag("op", "encode").register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("password.hash.queue.wait").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hash.rejected").register(meterRegistry);
+        Gauge.builder("password.hash.queue.size", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    /**
+     * 비밀번호 일치 여부 확인
+     * 
+     * @param rawPassword     입력 비밀번호
+     * @param encodedPassword 저장된 해시
+     * @return 일치하면 true
+     * @throws RateLimitException 해시 처리 용량 초과 시
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 비밀번호 해시 생성
+     * 
+     * @param rawPassword 입력 비밀번호
+     * @return BCrypt 해시
+     * @throws RateLimitException 해시 처리 용량 초과 시
+     */
+    public String encode(String rawPassword) {
+        return submit(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 비밀번호 해시 일괄 생성 (대량 가져오기용)
+     * 로그인용 풀과 분리된 전용 스레드에서 병렬 처리하며 대기열 제한 없이 모두 완료될 때까지 대기
+     * 
+     * @param rawPasswords 입력 비밀번호 목록
+     * @return 같은 순서의 BCrypt 해시 목록
+     */
+    public List<String> encodeAll(List<String> rawPasswords) {
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+        for (String rawPassword : rawPasswords) {
+            futures.add(bulkExecutor.submit(
+                    () -> encodeTimer.recordCallable(() -> passwordEncoder.encode(rawPassword))));
+        }
+        List<String> hashes = new ArrayList<>(futures.size());
+        try {
+            for (Future<String> future : futures) {
+                hashes.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        }
+        return hashes;
+    }
+
+    /**
+     * 저장된 해시의 cost가 현재 설정과 다른지 확인
+     * 
+     * @param encodedPassword 저장된 해시
+     * @return 재해시가 필요하면 true
+     */
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != properties.getStrength();
+    }
+
+    /**
+     * 로그인 시 재해시 사용 여부
+     */
+    public boolean isRehashOnLogin() {
+        return properties.isRehashOnLogin();
+    }
+
+    private <T> T submit(Timer timer, Callable<T> task) {
+        long enqueuedAt = System.nanoTime();
+        long queueTimeoutNanos = properties.getQueueTimeout().toNanos();
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long waited = System.nanoTime() - enqueuedAt;
+                queueWaitTimer.record(waited, TimeUnit.NANOSECONDS);
+                if (waited > queueTimeoutNanos) {
+                    throw new RejectedExecutionException("Password hash queue timeout");
+                }
+                return timer.recordCallable(task);
+            });
+        } catch (RejectedExecutionException e) {
+            throw reject("queue full");
+        }
+
+        try {
+            return future.get(properties.getTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw reject("timeout");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RejectedExecutionException) {
+                throw reject("queue timeout");
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        }
+    }
+
+    private RateLimitException reject(String reason) {
+        rejectedCounter.increment();
+        log.warn("Password hashing rejected: {}", reason);
+        long retryAfterSeconds = Math.max(1, properties.getQueueTimeout().toSeconds());
+        return new RateLimitException("Too many concurrent authentication requests", retryAfterSeconds);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        bulkExecutor.shutdown();
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.springrest.global.util;
+
+import com.example.springrest.global.config.ClientIpProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 클라이언트 IP 주소 판별
+ * 연결 주소가 신뢰 프록시인 경우에만 X-Forwarded-For를 사용하며,
+ * 헤더를 오른쪽(가장 가까운 프록시)부터 따라가 처음 나오는 신뢰하지 않는 주소를 클라이언트로 판단
+ * (클라이언트가 임의로 넣은 왼쪽 값은 사용하지 않음)
+ */
+@Component
+public class ClientIpResolver {
+
+    private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public ClientIpResolver(ClientIpProperties properties) {
+        this.trustedProxies = properties.getTrustedProxies().stream()
+                .map(String::trim)
+                .filter(proxy -> !proxy.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+    }
+
+    /**
+     * 클라이언트 IP 주소 추출
+     *
+     * @param request HTTP 요청
+     * @return IP 주소
+     */
+    public String resolve(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        String xForwardedFor = request.getHeader(X_FORWARDED_FOR);
+        if (xForwardedFor == null || xForwardedFor.isBlank() || !isTrusted(remoteAddr)) {
+            return remoteAddr;
+        }
+
+        String[] hops = xForwardedFor.split(",");
+        String client = remoteAddr;
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (hop.isEmpty()) {
+                break;
+            }
+            client = hop;
+            if (!isTrusted(hop)) {
+                break;
+            }
+        }
+        return client;
+    }
+
+    private boolean isTrusted(String address) {
+        if (address == null || trustedProxies.isEmpty()) {
+            return false;
+        }
+        try {
+            for (IpAddressMatcher matcher : trustedProxies) {
+                if (matcher.matches(address)) {
+                    return true;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // IP 형식이 아닌 값 (위조된 헤더 등)
+            return false;
+        }
+        return false;
+    }
+}
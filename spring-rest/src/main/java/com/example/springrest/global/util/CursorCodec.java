@@ -0,0 +1,68 @@
+package com.example.springrest.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 페이징용 불투명 커서 인코더
+ * 클라이언트가 커서 내부 값(정렬 키)에 의존하지 않도록 버전 접두사를 붙여 Base64 URL-safe로 인코딩
+ */
+public final class CursorCodec {
+
+    private static final String VERSION_PREFIX = "v1:";
+
+    private CursorCodec() {
+    }
+
+    /**
+     * 정렬 키 값을 커서 문자열로 인코딩
+     * 
+     * @param value 정렬 키 값
+     * @return 불투명 커서
+     */
+    public static String encode(String value) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((VERSION_PREFIX + value).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 정렬 키 값으로 디코딩
+     * 
+     * @param cursor 불투명 커서 (null 또는 빈 값이면 첫 페이지)
+     * @return 정렬 키 값 (첫 페이지면 null)
+     * @throws IllegalArgumentException 형식이 올바르지 않은 커서
+     */
+    public static String decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (decoded.startsWith(VERSION_PREFIX)) {
+                return decoded.substring(VERSION_PREFIX.length());
+            }
+        } catch (IllegalArgumentException e) {
+            // 아래에서 공통 메시지로 처리
+        }
+        throw new IllegalArgumentException("Invalid cursor");
+    }
+
+    /**
+     * 정수 정렬 키 커서 디코딩
+     * 
+     * @param cursor 불투명 커서
+     * @return 정렬 키 값 (첫 페이지면 null)
+     * @throws IllegalArgumentException 형식이 올바르지 않은 커서
+     */
+    public static Integer decodeInteger(String cursor) {
+        String value = decode(cursor);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
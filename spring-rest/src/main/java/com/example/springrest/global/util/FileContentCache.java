@@ -0,0 +1,99 @@
+package com.example.springrest.global.util;
+
+import com.example.springrest.global.config.FileContentCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 작은 첨부파일 내용 메모리 캐시
+ * 설정 크기 이하 파일을 힙 ByteBuffer(읽기 전용)로 보관하여 반복 다운로드 시 디스크 읽기를 생략
+ * 제거된 항목은 일반 GC로 회수되므로 maxBytes가 실제 점유 메모리 상한이 됨
+ * (direct 버퍼는 제거 후에도 버퍼 객체가 수집될 때까지 해제되지 않아 상한을 보장할 수 없음)
+ * 전체 크기는 바이트 가중치로 제한하며 Caffeine(W-TinyLFU)이 접근 빈도 기준으로 적재/제거
+ * 저장 위치(경로) 단위로 캐시하므로 같은 blob을 공유하는 첨부파일은 한 번만 적재됨
+ */
+@Slf4j
+@Component
+public class FileContentCache {
+
+    private final FileContentCacheProperties properties;
+    private final Cache<Path, ByteBuffer> cache;
+
+    public FileContentCache(FileContentCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxBytes().toBytes())
+                .weigher((Path path, ByteBuffer content) -> content.capacity())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "file.content");
+        Gauge.builder("file.content.cache.bytes", cache, c -> c.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L))
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("file.content.cache.hit.ratio", cache, c -> c.stats().hitRate()).register(meterRegistry);
+    }
+
+    /**
+     * 파일 내용 조회 (캐시 대상이 아니거나 읽기 실패 시 null, 호출자는 디스크 전송으로 대체)
+     * 
+     * @param path   저장 파일 경로
+     * @param length 현재 파일 크기
+     * @return 읽기 전용 내용 (호출마다 독립된 position/limit)
+     */
+    public ByteBuffer get(Path path, long length) {
+        if (!properties.isEnabled() || length <= 0 || length > properties.getMaxFileSize().toBytes()) {
+            return null;
+        }
+        ByteBuffer content = cache.get(path, this::load);
+        if (content == null) {
+            return null;
+        }
+        if (content.capacity() != length) {
+            // 같은 경로의 파일이 바뀐 경우 (정상 흐름에서는 발생하지 않음)
+            cache.invalidate(path);
+            return null;
+        }
+        return content.duplicate();
+    }
+
+    /**
+     * 캐시 항목 제거 (첨부파일 삭제/물리 삭제 시)
+     * 
+     * @param path 저장 파일 경로
+     */
+    public void invalidate(Path path) {
+        cache.invalidate(path);
+    }
+
+    private ByteBuffer load(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size <= 0 || size > properties.getMaxFileSize().toBytes()) {
+                return null;
+            }
+            ByteBuffer content = ByteBuffer.allocate((int) size);
+            while (content.hasRemaining()) {
+                if (channel.read(content) < 0) {
+                    return null;
+                }
+            }
+            content.flip();
+            return content.asReadOnlyBuffer();
+        } catch (IOException e) {
+            log.warn("Failed to cache file content: {}", path, e);
+            return null;
+        }
+    }
+}
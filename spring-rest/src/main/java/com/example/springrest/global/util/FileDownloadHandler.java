@@ -0,0 +1,232 @@
+package com.example.springrest.global.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.support.ResourceRegion;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 저장 파일 다운로드 응답 처리
+ * ETag/Last-Modified 조건부 요청(304/412), Range/If-Range 부분 요청(206, multipart/byteranges)을 지원
+ * 작은 파일은 FileContentCache의 메모리 내용으로 전송
+ * 그 외 단일 구간은 Tomcat sendfile로 위임하여 커널에서 직접 전송하고 요청 스레드를 즉시 반환
+ * sendfile을 쓸 수 없는 경우(HTTPS 등)와 다중 구간은 StreamingResponseBody(비동기)로
+ * FileChannel.transferTo 전송
+ */
+@Component
+@RequiredArgsConstructor
+public class FileDownloadHandler {
+
+    private static final String SENDFILE_SUPPORT_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+    private static final String CRLF = "\r\n";
+
+    private final FileContentCache fileContentCache;
+
+    /**
+     * 파일 다운로드 응답 생성
+     * 
+     * @param path            저장 파일 경로
+     * @param etag            강한 ETag (따옴표 포함)
+     * @param downloadName    Content-Disposition 파일명 (원본 파일명)
+     * @param request         HTTP 요청
+     * @param response        HTTP 응답
+     * @param onDownloadStart 파일 처음부터 전송하는 경우 호출 (이어받기/조건부/HEAD 응답은 제외)
+     * @return 응답 (sendfile/HEAD/304/412/416은 본문 없음)
+     */
+    public ResponseEntity<StreamingResponseBody> serve(Path path, String etag, String downloadName,
+            HttpServletRequest request, HttpServletResponse response, Runnable onDownloadStart) throws IOException {
+        long length = Files.size(path);
+        long lastModified = Files.getLastModifiedTime(path).toMillis();
+
+        // 304 Not Modified / 412 Precondition Failed (ETag, Last-Modified 헤더는 여기서 설정됨)
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return ResponseEntity.status(response.getStatus()).build();
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + downloadName + "\"");
+
+        List<ResourceRegion> regions;
+        try {
+            regions = resolveRanges(request, etag, lastModified, path);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */" + length)
+                    .build();
+        }
+
+        boolean head = HttpMethod.HEAD.matches(request.getMethod());
+        ByteBuffer content = head ? null : fileContentCache.get(path, length);
+        if (regions.isEmpty()) {
+            if (!head) {
+                onDownloadStart.run();
+            }
+            headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+            headers.setContentLength(length);
+            return send(HttpStatus.OK, headers, path, content, 0, length, request);
+        }
+
+        if (!head && regions.get(0).getPosition() == 0) {
+            onDownloadStart.run();
+        }
+
+        if (regions.size() == 1) {
+            ResourceRegion region = regions.get(0);
+            headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+            headers.setContentLength(region.getCount());
+            headers.set(HttpHeaders.CONTENT_RANGE, contentRange(region, length));
+            return send(HttpStatus.PARTIAL_CONTENT, headers, path, content, region.getPosition(), region.getCount(),
+                    request);
+        }
+
+        return sendMultipart(headers, path, content, regions, length, request);
+    }
+
+    /**
+     * Range 헤더 해석 (If-Range 불일치 시 전체 응답)
+     * 
+     * @return 요청 구간 (전체 응답이면 빈 목록)
+     * @throws IllegalArgumentException 해석할 수 없거나 만족할 수 없는 구간
+     */
+    private List<ResourceRegion> resolveRanges(HttpServletRequest request, String etag, long lastModified,
+            Path path) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null || !isIfRangeSatisfied(request, etag, lastModified)) {
+            return List.of();
+        }
+        List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+        if (ranges.isEmpty()) {
+            return List.of();
+        }
+        return HttpRange.toResourceRegions(ranges, new FileSystemResource(path));
+    }
+
+    private boolean isIfRangeSatisfied(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(etag);
+        }
+        try {
+            return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private ResponseEntity<StreamingResponseBody> send(HttpStatus status, HttpHeaders headers, Path path,
+            ByteBuffer content, long position, long count, HttpServletRequest request) {
+        if (HttpMethod.HEAD.matches(request.getMethod())) {
+            return ResponseEntity.status(status).headers(headers).build();
+        }
+        if (content != null) {
+            return ResponseEntity.status(status).headers(headers)
+                    .body(out -> write(content, position, count, Channels.newChannel(out)));
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTR))) {
+            // 응답 커밋 시 Tomcat이 sendfile로 본문 전송
+            request.setAttribute(SENDFILE_FILENAME_ATTR, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTR, position);
+            request.setAttribute(SENDFILE_END_ATTR, position + count);
+            return ResponseEntity.status(status).headers(headers).build();
+        }
+        return ResponseEntity.status(status).headers(headers).body(out -> {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                transfer(channel, position, count, Channels.newChannel(out));
+            }
+        });
+    }
+
+    private ResponseEntity<StreamingResponseBody> sendMultipart(HttpHeaders headers, Path path, ByteBuffer content,
+            List<ResourceRegion> regions, long length, HttpServletRequest request) {
+        String boundary = new String(MimeTypeUtils.generateMultipartBoundary(), StandardCharsets.US_ASCII);
+        List<byte[]> partHeaders = new ArrayList<>(regions.size());
+        long contentLength = 0;
+        for (ResourceRegion region : regions) {
+            byte[] partHeader = (CRLF + "--" + boundary + CRLF
+                    + HttpHeaders.CONTENT_TYPE + ": " + MediaType.APPLICATION_OCTET_STREAM_VALUE + CRLF
+                    + HttpHeaders.CONTENT_RANGE + ": " + contentRange(region, length) + CRLF + CRLF)
+                    .getBytes(StandardCharsets.US_ASCII);
+            partHeaders.add(partHeader);
+            contentLength += partHeader.length + region.getCount();
+        }
+        byte[] closing = (CRLF + "--" + boundary + "--" + CRLF).getBytes(StandardCharsets.US_ASCII);
+        contentLength += closing.length;
+
+        headers.setContentType(MediaType.parseMediaType("multipart/byteranges; boundary=" + boundary));
+        headers.setContentLength(contentLength);
+        if (HttpMethod.HEAD.matches(request.getMethod())) {
+            return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT).headers(headers).build();
+        }
+        return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT).headers(headers).body(out -> {
+            WritableByteChannel target = Channels.newChannel(out);
+            try (FileChannel channel = content == null ? FileChannel.open(path, StandardOpenOption.READ) : null) {
+                for (int i = 0; i < regions.size(); i++) {
+                    out.write(partHeaders.get(i));
+                    ResourceRegion region = regions.get(i);
+                    if (content != null) {
+                        write(content, region.getPosition(), region.getCount(), target);
+                    } else {
+                        transfer(channel, region.getPosition(), region.getCount(), target);
+                    }
+                }
+                out.write(closing);
+            }
+        });
+    }
+
+    private static String contentRange(ResourceRegion region, long length) {
+        long start = region.getPosition();
+        return "bytes " + start + "-" + (start + region.getCount() - 1) + "/" + length;
+    }
+
+    private static void write(ByteBuffer content, long position, long count, WritableByteChannel target)
+            throws IOException {
+        ByteBuffer slice = content.slice((int) position, (int) count);
+        while (slice.hasRemaining()) {
+            target.write(slice);
+        }
+    }
+
+    private static void transfer(FileChannel channel, long position, long count, WritableByteChannel target)
+            throws IOException {
+        long sent = 0;
+        while (sent < count) {
+            long transferred = channel.transferTo(position + sent, count - sent, target);
+            if (transferred <= 0) {
+                throw new EOFException("File truncated during transfer");
+            }
+            sent += transferred;
+        }
+    }
+}
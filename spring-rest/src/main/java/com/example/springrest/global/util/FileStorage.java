@@ -0,0 +1,86 @@
+package com.example.springrest.global.util;
+
+import com.example.springrest.domain.boards.board.model.entity.BoardFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * 첨부파일 저장소
+ * 저장 위치는 FILE_PATH + STR_FILE_NM으로 식별하며, 배치 방식(분산 디렉터리, 내용 주소 등)은 구현체가 결정
+ */
+public interface FileStorage {
+
+    /**
+     * 업로드 파일 목록 저장 (빈 파일 제외, 실패 시 이미 저장된 파일은 discard로 전달 후 예외)
+     */
+    List<BoardFile> storeFiles(List<MultipartFile> multipartFiles, Integer boardId, Consumer<BoardFile> discard)
+            throws IOException;
+
+    /**
+     * 업로드 파일 저장
+     */
+    BoardFile storeFile(MultipartFile multipartFile, Integer boardId) throws IOException;
+
+    /**
+     * 입력 스트림 저장 (크기/해시 계산, 최대 크기 강제)
+     */
+    BoardFile storeStream(InputStream in, String originalFilename, String contentType, Integer boardId)
+            throws IOException;
+
+    /**
+     * 기존 위치의 파일을 현재 배치 방식으로 편입 (원본 유지)
+     */
+    BoardFile adopt(String filePath, String strFileNm) throws IOException;
+
+    /**
+     * 선언된 본문 길이 사전 확인
+     */
+    void checkFileSize(long contentLength);
+
+    /**
+     * 저장 파일 경로
+     */
+    Path getStoredPath(String filePath, String strFileNm);
+
+    /**
+     * 미참조 저장 파일 삭제 (동시 업로드의 blob 재사용과 경합하지 않도록 삭제 대기 이름으로 바꾼 뒤 재확인)
+     * 
+     * @param before       이 시각 이후에 수정(재사용)되었으면 삭제하지 않음
+     * @param unreferenced 이름 변경 후 다시 확인할 미참조 여부
+     * @return 삭제한 바이트 수 (파일이 없으면 0, 재사용/참조가 확인되어 유지했으면 -1)
+     */
+    long purgeStoredFile(String filePath, String strFileNm, Instant before, BooleanSupplier unreferenced);
+
+    /**
+     * 저장 파일의 마지막 수정 시각이 기준 시각 이전인지 확인 (없으면 true)
+     */
+    boolean isModifiedBefore(String filePath, String strFileNm, Instant before);
+
+    /**
+     * 기준 시각 이전의 미완료 업로드 정리
+     * 
+     * @return 삭제한 파일 수
+     */
+    int deleteStalePartFiles(Instant before);
+
+    /**
+     * 미참조 blob 검사 단위(분산 디렉터리) 수
+     */
+    int blobShardCount();
+
+    /**
+     * 검사 단위에 속한 blob 중 기준 시각 이전에 수정된 blob 목록 (filePath, strFileNm만 설정)
+     * 중단된 삭제로 남은 삭제 대기 파일은 원래 이름으로 되돌린 뒤 목록에 포함
+     * 
+     * @param shard  검사 단위 번호 (0 ~ blobShardCount() - 1)
+     * @param before 기준 시각
+     */
+    List<BoardFile> findBlobsModifiedBefore(int shard, Instant before);
+}
@@ -1,6 +1,8 @@
 package com.example.springrest.global.util;
 
 import com.example.springrest.domain.boards.board.model.entity.BoardFile;
+import com.example.springrest.global.config.FileUploadProperties;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -11,13 +13,46 @@ import org.springframework.core.io.UrlResource;
 import java.net.MalformedURLException;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
 
 @Slf4j
 @Component
-public class FileStore {
+@RequiredArgsConstructor
+public class FileStore implements FileStorage {
+
+    private static final String PART_SUFFIX = ".part";
+    private static final String PURGE_SUFFIX = ".purge";
+    private static final int CAS_SHARDS = 256;
+    private static final Pattern BLOB_NAME = Pattern.compile("[0-9a-f]{64}");
+    private static final String CAS_PATH = "/cas/";
+    private static final String TMP_PATH = CAS_PATH + "tmp/";
+
+    private final FileUploadProperties fileUploadProperties;
 
     @Value("${app.file.upload-dir}")
     private String fileDir;
@@ -26,53 +61,410 @@ public class FileStore {
         return fileDir + filename;
     }
 
-    public List<BoardFile> storeFiles(List<MultipartFile> multipartFiles, Integer boardId) throws IOException {
-        List<BoardFile> storeFileResult = new ArrayList<>();
-        if (multipartFiles == null || multipartFiles.isEmpty()) {
+    /**
+     * 업로드 파일 목록을 가상 스레드에서 병렬 저장 (빈 파일 제외, 입력 순서 유지)
+     * 하나라도 실패하면 남은 작업을 중단하고 모든 작업 종료를 기다린 뒤,
+     * 이미 저장된 파일을 discard로 넘기고 첫 번째 실패 예외를 던짐
+     * 
+     * @param multipartFiles 업로드 파일 목록
+     * @param boardId        게시물 일련번호
+     * @param discard        실패 시 이미 저장된 파일 처리 (blob 공유 여부는 호출자가 판단)
+     * @return 저장된 파일 목록
+     */
+    @Override
+    public List<BoardFile> storeFiles(List<MultipartFile> multipartFiles, Integer boardId,
+            Consumer<BoardFile> discard) throws IOException {
+        List<MultipartFile> targets = multipartFiles == null ? List.of()
+                : multipartFiles.stream().filter(file -> !file.isEmpty()).toList();
+        if (targets.size() <= 1) {
+            List<BoardFile> storeFileResult = new ArrayList<>();
+            for (MultipartFile multipartFile : targets) {
+                storeFileResult.add(storeFile(multipartFile, boardId));
+            }
             return storeFileResult;
         }
 
-        for (MultipartFile multipartFile : multipartFiles) {
-            if (!multipartFile.isEmpty()) {
-                storeFileResult.add(storeFile(multipartFile, boardId));
+        List<Future<BoardFile>> futures = new ArrayList<>(targets.size());
+        Throwable failure = null;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (MultipartFile multipartFile : targets) {
+                futures.add(executor.submit(() -> storeFile(multipartFile, boardId)));
+            }
+            for (Future<BoardFile> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    failure = e.getCause();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failure = e;
+                }
+                if (failure != null) {
+                    executor.shutdownNow();
+                    break;
+                }
+            }
+        }
+
+        List<BoardFile> storeFileResult = new ArrayList<>(futures.size());
+        for (Future<BoardFile> future : futures) {
+            if (future.state() == Future.State.SUCCESS) {
+                storeFileResult.add(future.resultNow());
             }
         }
-        return storeFileResult;
+        if (failure == null) {
+            return storeFileResult;
+        }
+
+        storeFileResult.forEach(discard);
+        if (failure instanceof IOException ioException) {
+            throw ioException;
+        }
+        if (failure instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        throw new IOException("File upload failed", failure);
     }
 
+    @Override
     public BoardFile storeFile(MultipartFile multipartFile, Integer boardId) throws IOException {
         if (multipartFile.isEmpty()) {
             return null;
         }
 
-        String originalFilename = multipartFile.getOriginalFilename();
-        String storeFileName = createStoreFileName(originalFilename);
-        String subPath = "/board/"; // Can be dynamic based on requirements
+        try (InputStream in = multipartFile.getInputStream()) {
+            return storeStream(in, multipartFile.getOriginalFilename(), multipartFile.getContentType(), boardId);
+        }
+    }
+
+    /**
+     * 입력 스트림을 내용 주소 저장소(/cas/ab/cd/<sha256>)에 기록 (임시 파일 스풀링 없이 1회 쓰기)
+     * 같은 패스에서 크기와 SHA-256을 계산하고, 최대 크기 초과 시 즉시 중단
+     * 기록 중에는 tmp의 .part 이름을 사용하고 완료 후 원자적 이름 변경으로 확정하므로
+     * 중단/실패한 업로드는 최종 이름으로 남지 않음
+     * 같은 내용의 blob이 이미 있으면 새로 저장하지 않고 수정 시각만 갱신 (GC 유예 기간 재시작)
+     * 
+     * @param in               업로드 본문 스트림 (호출자가 닫음)
+     * @param originalFilename 원본 파일명
+     * @param contentType      MIME 타입
+     * @param boardId          게시물 일련번호
+     * @return 저장된 파일 정보 (크기, 해시 포함)
+     * @throws IllegalArgumentException 빈 파일이거나 최대 크기 초과 시
+     */
+    @Override
+    public BoardFile storeStream(InputStream in, String originalFilename, String contentType, Integer boardId)
+            throws IOException {
+        Path tmpDir = Paths.get(getFullPath(TMP_PATH));
+        Files.createDirectories(tmpDir);
+        Path part = tmpDir.resolve(UUID.randomUUID() + PART_SUFFIX);
+
+        long maxBytes = fileUploadProperties.getMaxFileSize().toBytes();
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[(int) fileUploadProperties.getBufferSize().toBytes()];
+        long size = 0;
 
-        // Ensure directory exists
-        File uploadDir = new File(getFullPath(subPath));
-        if (!uploadDir.exists()) {
-            uploadDir.mkdirs();
+        try (FileChannel channel = FileChannel.open(part, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                size += read;
+                if (size > maxBytes) {
+                    throw new IllegalArgumentException(
+                            "파일 크기가 허용 한도를 초과했습니다: " + fileUploadProperties.getMaxFileSize());
+                }
+                digest.update(buffer, 0, read);
+                ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                while (chunk.hasRemaining()) {
+                    channel.write(chunk);
+                }
+            }
+            if (size == 0) {
+                throw new IllegalArgumentException("빈 파일은 업로드할 수 없습니다");
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(part);
+            throw e;
         }
 
-        multipartFile.transferTo(new File(getFullPath(subPath + storeFileName)));
+        String hash = HexFormat.of().formatHex(digest.digest());
+        String subPath = shardPath(hash);
+        try {
+            Path target = Paths.get(getFullPath(subPath)).resolve(hash);
+            Files.createDirectories(target.getParent());
+            if (touch(target)) {
+                // 중복 내용: 기존 blob 재사용
+                Files.delete(part);
+            } else {
+                // 동시에 같은 내용이 확정되어도 내용이 같으므로 교체해도 무방
+                Files.move(part, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(part);
+            throw e;
+        }
 
         return BoardFile.builder()
                 .boardId(boardId)
                 .orgFileNm(originalFilename)
-                .strFileNm(storeFileName)
+                .strFileNm(hash)
                 .filePath(subPath)
-                .fileSize(multipartFile.getSize())
+                .fileSize(size)
                 .fileExt(extractExt(originalFilename))
-                .mimeType(multipartFile.getContentType())
+                .mimeType(contentType)
+                .fileHash(hash)
                 .useYn("1")
                 .build();
     }
 
-    private String createStoreFileName(String originalFilename) {
-        String ext = extractExt(originalFilename);
-        String uuid = UUID.randomUUID().toString();
-        return uuid + "." + ext;
+    /**
+     * 기존 위치(평면 디렉터리 등)의 파일을 내용 주소 저장소로 편입
+     * 원본은 그대로 두고 하드 링크(불가하면 복사 후 원자적 이름 변경)로 새 위치를 만들므로
+     * 편입 도중/직후에도 기존 경로로의 다운로드가 계속 동작
+     * 
+     * @param filePath  기존 저장 경로
+     * @param strFileNm 기존 저장 파일명
+     * @return 새 위치 정보 (filePath, strFileNm, fileHash만 설정)
+     * @throws NoSuchFileException 기존 파일이 없는 경우
+     */
+    @Override
+    public BoardFile adopt(String filePath, String strFileNm) throws IOException {
+        Path source = getStoredPath(filePath, strFileNm);
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[(int) fileUploadProperties.getBufferSize().toBytes()];
+        try (InputStream in = Files.newInputStream(source)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+
+        String hash = HexFormat.of().formatHex(digest.digest());
+        String subPath = shardPath(hash);
+        Path target = Paths.get(getFullPath(subPath)).resolve(hash);
+        Files.createDirectories(target.getParent());
+        if (!touch(target)) {
+            try {
+                Files.createLink(target, source);
+            } catch (FileAlreadyExistsException e) {
+                // 동시에 같은 내용이 편입됨
+            } catch (IOException | UnsupportedOperationException e) {
+                Path tmpDir = Paths.get(getFullPath(TMP_PATH));
+                Files.createDirectories(tmpDir);
+                Path part = tmpDir.resolve(UUID.randomUUID() + PART_SUFFIX);
+                try {
+                    Files.copy(source, part);
+                    Files.move(part, target, StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    Files.deleteIfExists(part);
+                }
+            }
+        }
+
+        return BoardFile.builder()
+                .filePath(subPath)
+                .strFileNm(hash)
+                .fileHash(hash)
+                .build();
+    }
+
+    /**
+     * 기존 blob의 수정 시각 갱신 (GC 유예 기간 재시작)
+     * GC가 먼저 삭제 대기 이름으로 바꾼 경우 NoSuchFileException으로 드러나므로 새로 저장하도록 false 반환
+     * 
+     * @return 기존 blob을 재사용할 수 있으면 true
+     */
+    private boolean touch(Path target) throws IOException {
+        if (!Files.exists(target)) {
+            return false;
+        }
+        try {
+            Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 해시 앞 두 자리씩 2단계 분산 경로 (/cas/ab/cd/), 디렉터리당 항목 수를 제한
+     */
+    private String shardPath(String hash) {
+        return CAS_PATH + hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/";
+    }
+
+    /**
+     * 저장 파일 경로 (정규화 후 업로드 디렉터리 하위인지 확인)
+     * 
+     * @param filePath  저장 경로
+     * @param strFileNm 저장 파일명
+     */
+    @Override
+    public Path getStoredPath(String filePath, String strFileNm) {
+        Path root = Paths.get(fileDir).toAbsolutePath().normalize();
+        Path path = Paths.get(getFullPath(filePath + strFileNm)).toAbsolutePath().normalize();
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new IllegalArgumentException("저장 경로가 업로드 디렉터리를 벗어났습니다: " + filePath + strFileNm);
+        }
+        return path;
+    }
+
+    /**
+     * 선언된 본문 길이가 최대 크기를 넘으면 저장 전에 거절
+     * 
+     * @param contentLength 요청 본문 길이 (알 수 없으면 -1)
+     */
+    @Override
+    public void checkFileSize(long contentLength) {
+        if (contentLength > fileUploadProperties.getMaxFileSize().toBytes()) {
+            throw new IllegalArgumentException(
+                    "파일 크기가 허용 한도를 초과했습니다: " + fileUploadProperties.getMaxFileSize());
+        }
+    }
+
+    /**
+     * 미참조 물리 파일 삭제
+     * 먼저 같은 디렉터리의 삭제 대기 이름(.purge)으로 원자적으로 바꾸어 이후 업로드가 기존 blob을 재사용하지 못하게 한 뒤
+     * (재사용하려던 업로드는 touch 실패로 새로 저장), 이름 변경 전에 재사용된 경우(수정 시각 갱신)와
+     * 그 사이 참조가 생긴 경우는 원래 이름으로 되돌림
+     * 
+     * @param filePath     저장 경로
+     * @param strFileNm    저장 파일명
+     * @param before       이 시각 이후에 수정되었으면 유지
+     * @param unreferenced 이름 변경 후 다시 확인할 미참조 여부
+     * @return 삭제한 바이트 수 (파일이 없으면 0, 유지했으면 -1)
+     */
+    @Override
+    public long purgeStoredFile(String filePath, String strFileNm, Instant before, BooleanSupplier unreferenced) {
+        Path path = getStoredPath(filePath, strFileNm);
+        Path tombstone = path.resolveSibling(path.getFileName() + PURGE_SUFFIX);
+        try {
+            Files.move(path, tombstone, StandardCopyOption.ATOMIC_MOVE);
+        } catch (NoSuchFileException e) {
+            return 0;
+        } catch (IOException e) {
+            log.warn("Failed to retire stored file: {}{}", filePath, strFileNm, e);
+            return -1;
+        }
+
+        try {
+            if (!Files.getLastModifiedTime(tombstone).toInstant().isBefore(before) || !unreferenced.getAsBoolean()) {
+                restore(path, tombstone);
+                return -1;
+            }
+            long size = Files.size(tombstone);
+            Files.delete(tombstone);
+            return size;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to purge stored file: {}{}", filePath, strFileNm, e);
+            restore(path, tombstone);
+            return -1;
+        }
+    }
+
+    /**
+     * 삭제 대기 파일을 원래 이름으로 되돌림 (그 사이 같은 내용이 다시 저장되었으면 삭제 대기 파일만 제거)
+     */
+    private void restore(Path path, Path tombstone) {
+        try {
+            if (Files.exists(path)) {
+                Files.deleteIfExists(tombstone);
+            } else {
+                Files.move(tombstone, path, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException e) {
+            log.error("Failed to restore stored file: {}", path, e);
+        }
+    }
+
+    /**
+     * 저장된 파일의 마지막 수정 시각이 기준 시각 이전인지 확인 (없으면 true)
+     * 
+     * @param filePath  저장 경로
+     * @param strFileNm 저장 파일명
+     * @param before    기준 시각
+     */
+    @Override
+    public boolean isModifiedBefore(String filePath, String strFileNm, Instant before) {
+        Path path = getStoredPath(filePath, strFileNm);
+        try {
+            return !Files.exists(path) || Files.getLastModifiedTime(path).toInstant().isBefore(before);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 기준 시각 이전에 만들어진 미완료(.part) 업로드 파일 삭제 (프로세스 중단 등으로 남은 파일)
+     * 
+     * @param before 기준 시각
+     * @return 삭제한 파일 수
+     */
+    @Override
+    public int deleteStalePartFiles(Instant before) {
+        Path tmpDir = Paths.get(getFullPath(TMP_PATH));
+        if (!Files.isDirectory(tmpDir)) {
+            return 0;
+        }
+        int deleted = 0;
+        try (DirectoryStream<Path> parts = Files.newDirectoryStream(tmpDir, "*" + PART_SUFFIX)) {
+            for (Path part : parts) {
+                if (Files.getLastModifiedTime(part).toInstant().isBefore(before) && Files.deleteIfExists(part)) {
+                    deleted++;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to clean stale upload parts in {}", tmpDir, e);
+        }
+        return deleted;
+    }
+
+    @Override
+    public int blobShardCount() {
+        return CAS_SHARDS;
+    }
+
+    /**
+     * 내용 주소 저장소의 최상위 분산 디렉터리(/cas/ab/) 하나에서 기준 시각 이전에 수정된 blob 목록 조회
+     * 
+     * @param shard  최상위 분산 디렉터리 번호 (0 ~ 255)
+     * @param before 기준 시각
+     * @return blob 목록 (filePath, strFileNm만 설정)
+     */
+    @Override
+    public List<BoardFile> findBlobsModifiedBefore(int shard, Instant before) {
+        Path shardDir = Paths.get(getFullPath(CAS_PATH + String.format("%02x", shard)));
+        List<BoardFile> blobs = new ArrayList<>();
+        if (!Files.isDirectory(shardDir)) {
+            return blobs;
+        }
+        try (DirectoryStream<Path> leafDirs = Files.newDirectoryStream(shardDir, Files::isDirectory)) {
+            for (Path leafDir : leafDirs) {
+                String subPath = CAS_PATH + shardDir.getFileName() + "/" + leafDir.getFileName() + "/";
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(leafDir)) {
+                    for (Path file : files) {
+                        String name = file.getFileName().toString();
+                        if (name.endsWith(PURGE_SUFFIX)) {
+                            // 삭제 도중 중단된 파일은 되돌린 뒤 다음 검사에서 다시 판단
+                            restore(file.resolveSibling(name.substring(0, name.length() - PURGE_SUFFIX.length())),
+                                    file);
+                        } else if (BLOB_NAME.matcher(name).matches()
+                                && Files.getLastModifiedTime(file).toInstant().isBefore(before)) {
+                            blobs.add(BoardFile.builder().filePath(subPath).strFileNm(name).build());
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to scan blobs in {}", shardDir, e);
+        }
+        return blobs;
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
     private String extractExt(String originalFilename) {
@@ -0,0 +1,46 @@
+package com.example.springrest.global.util;
+
+import java.util.regex.Pattern;
+
+/**
+ * 본문 요약(평문 발췌) 유틸리티
+ * HTML 태그 제거, 주요 엔티티 복원, 공백 정리 후 앞부분만 잘라냄
+ * V6 마이그레이션의 기존 데이터 백필 규칙과 동일하게 유지해야 함
+ */
+public final class TextExcerpts {
+
+    /**
+     * 요약 최대 길이 (EXCERPT 컬럼 크기)
+     */
+    public static final int MAX_LENGTH = 200;
+
+    private static final Pattern TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private TextExcerpts() {
+    }
+
+    /**
+     * 본문에서 목록용 요약 생성
+     *
+     * @param contents 본문 (HTML 가능)
+     * @return 평문 요약 (본문이 없으면 null)
+     */
+    public static String excerpt(String contents) {
+        if (contents == null) {
+            return null;
+        }
+        String text = TAG.matcher(contents).replaceAll(" ")
+                .replace("&nbsp;", " ")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&#39;", "'")
+                .replace("&amp;", "&");
+        text = WHITESPACE.matcher(text).replaceAll(" ").strip();
+        if (text.codePointCount(0, text.length()) <= MAX_LENGTH) {
+            return text;
+        }
+        return text.substring(0, text.offsetByCodePoints(0, MAX_LENGTH));
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.springrest.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 동기화 유틸리티
+ */
+public final class TransactionUtils {
+
+    private TransactionUtils() {
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 작업 실행
+     * 활성 트랜잭션이 없으면 즉시 실행
+     * 
+     * @param action 커밋 후 실행할 작업
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 현재 트랜잭션 롤백 후 작업 실행 (예: 이미 저장한 물리 파일 정리)
+     * 활성 트랜잭션이 없으면 아무것도 하지 않음
+     * 
+     * @param action 롤백 후 실행할 작업
+     */
+    public static void afterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    action.run();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,9 @@
+-- 댓글 스레드 조회용 인덱스
+-- 최상위 댓글 seek: BOARD_ID 별 COMMENT_ID 오름차순 (PARENT_ID IS NULL 부분 인덱스)
+CREATE INDEX IF NOT EXISTS IX_CHMM_BOARD_COMMENT_ROOT
+    ON CHMM_BOARD_COMMENT (BOARD_ID, COMMENT_ID)
+    WHERE PARENT_ID IS NULL;
+
+-- 하위 댓글 재귀 탐색 및 ON DELETE CASCADE 대상 조회
+CREATE INDEX IF NOT EXISTS IX_CHMM_BOARD_COMMENT_PARENT
+    ON CHMM_BOARD_COMMENT (PARENT_ID, COMMENT_ID);
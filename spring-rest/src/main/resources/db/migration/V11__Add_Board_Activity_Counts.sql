@@ -0,0 +1,15 @@
+-- 게시물 목록 표시용 비정규화 컬럼
+-- 목록에서 첨부/댓글 수를 행마다 조회하지 않도록 첨부파일/댓글 변경 시 증감 반영
+-- 어긋난 값은 관리 API(/api/v1/mgmt/boards/counts/rebuild)로 재계산
+ALTER TABLE CHMM_BOARD ADD COLUMN FILE_CNT INTEGER DEFAULT 0 NOT NULL;      -- 사용 중 첨부파일 수
+ALTER TABLE CHMM_BOARD ADD COLUMN COMMENT_CNT INTEGER DEFAULT 0 NOT NULL;   -- 사용 중 댓글 수
+ALTER TABLE CHMM_BOARD ADD COLUMN LAST_ACTIVITY_DTM TIMESTAMP WITHOUT TIME ZONE DEFAULT CURRENT_TIMESTAMP; -- 마지막 활동 일시 (수정/첨부/댓글)
+
+-- 게시물별 댓글 수 집계 (재계산)
+CREATE INDEX IF NOT EXISTS IX_CHMM_BOARD_COMMENT_BOARD ON CHMM_BOARD_COMMENT (BOARD_ID);
+
+UPDATE CHMM_BOARD b
+SET FILE_CNT = (SELECT COUNT(*) FROM CHMM_BOARD_FILE f WHERE f.BOARD_ID = b.BOARD_ID AND f.USE_YN = '1'),
+    COMMENT_CNT = (SELECT COUNT(*) FROM CHMM_BOARD_COMMENT c WHERE c.BOARD_ID = b.BOARD_ID AND c.USE_YN = '1'),
+    LAST_ACTIVITY_DTM = GREATEST(b.SYS_UPDATE_DTM,
+        (SELECT MAX(c.SYS_INSERT_DTM) FROM CHMM_BOARD_COMMENT c WHERE c.BOARD_ID = b.BOARD_ID));
@@ -0,0 +1,18 @@
+-- 논리 삭제(USE_YN = '0') 후 보존 기간이 지난 행을 옮겨 두는 보관 테이블
+-- 운영 테이블과 같은 컬럼 + 보관 일시(ARCHIVE_DTM), 외래 키/기본값/검색 컬럼 없이 생성
+-- 이동은 BoardArchiveService가 배치 단위 DELETE ... RETURNING -> INSERT로 수행
+CREATE TABLE CHMM_BOARD_ARCHIVE (LIKE CHMM_BOARD);
+ALTER TABLE CHMM_BOARD_ARCHIVE DROP COLUMN SEARCH_TSV;
+ALTER TABLE CHMM_BOARD_ARCHIVE ADD COLUMN ARCHIVE_DTM TIMESTAMP WITHOUT TIME ZONE NOT NULL;
+ALTER TABLE CHMM_BOARD_ARCHIVE ADD PRIMARY KEY (BOARD_ID);
+CREATE INDEX IX_CHMM_BOARD_ARCHIVE_BRD ON CHMM_BOARD_ARCHIVE (BRD_ID, BOARD_ID);
+
+CREATE TABLE CHMM_BOARD_FILE_ARCHIVE (LIKE CHMM_BOARD_FILE);
+ALTER TABLE CHMM_BOARD_FILE_ARCHIVE ADD COLUMN ARCHIVE_DTM TIMESTAMP WITHOUT TIME ZONE NOT NULL;
+ALTER TABLE CHMM_BOARD_FILE_ARCHIVE ADD PRIMARY KEY (FILE_ID);
+CREATE INDEX IX_CHMM_BOARD_FILE_ARCHIVE_BOARD ON CHMM_BOARD_FILE_ARCHIVE (BOARD_ID);
+
+CREATE TABLE CHMM_BOARD_COMMENT_ARCHIVE (LIKE CHMM_BOARD_COMMENT);
+ALTER TABLE CHMM_BOARD_COMMENT_ARCHIVE ADD COLUMN ARCHIVE_DTM TIMESTAMP WITHOUT TIME ZONE NOT NULL;
+ALTER TABLE CHMM_BOARD_COMMENT_ARCHIVE ADD PRIMARY KEY (COMMENT_ID);
+CREATE INDEX IX_CHMM_BOARD_COMMENT_ARCHIVE_BOARD ON CHMM_BOARD_COMMENT_ARCHIVE (BOARD_ID);
@@ -0,0 +1,38 @@
+-- 사용 중(USE_YN = '1') 행만 담는 부분 인덱스
+-- 목록/검색 조건은 항상 USE_YN = '1'을 포함하므로 삭제 행을 인덱스에서 제외하여
+-- 인덱스 크기와 삭제/수정 시 인덱스 갱신(VACUUM) 부담을 줄임
+
+-- 게시물 목록 seek (기존 BRD_ID, USE_YN, BOARD_ID DESC 인덱스 대체)
+CREATE INDEX IF NOT EXISTS IX_CHMM_BOARD_BRD_ACTIVE
+    ON CHMM_BOARD (BRD_ID, BOARD_ID DESC)
+    WHERE USE_YN = '1';
+DROP INDEX IF EXISTS IX_CHMM_BOARD_BRD_USE_ID;
+
+-- 게시물 검색 GIN 인덱스 (갱신 비용이 큰 인덱스이므로 삭제 행 제외 효과가 큼)
+DROP INDEX IF EXISTS IX_CHMM_BOARD_SEARCH_TSV;
+DROP INDEX IF EXISTS IX_CHMM_BOARD_TITLE_TRGM;
+DROP INDEX IF EXISTS IX_CHMM_BOARD_CONTENTS_TRGM;
+DROP INDEX IF EXISTS IX_CHMM_BOARD_USER_ID_TRGM;
+CREATE INDEX IX_CHMM_BOARD_SEARCH_TSV ON CHMM_BOARD USING GIN (SEARCH_TSV) WHERE USE_YN = '1';
+CREATE INDEX IX_CHMM_BOARD_TITLE_TRGM ON CHMM_BOARD USING GIN (TITLE gin_trgm_ops) WHERE USE_YN = '1';
+CREATE INDEX IX_CHMM_BOARD_CONTENTS_TRGM ON CHMM_BOARD USING GIN (CONTENTS gin_trgm_ops) WHERE USE_YN = '1';
+CREATE INDEX IX_CHMM_BOARD_USER_ID_TRGM ON CHMM_BOARD USING GIN (USER_ID gin_trgm_ops) WHERE USE_YN = '1';
+
+-- 게시물별 사용 중 첨부파일 (상세 조인, 첨부 개수 확인)
+-- 기존 BOARD_ID 전체 인덱스는 외래 키 CASCADE와 삭제 행 조회용으로 유지
+CREATE INDEX IF NOT EXISTS IX_CHMM_BOARD_FILE_BOARD_ACTIVE
+    ON CHMM_BOARD_FILE (BOARD_ID, FILE_ID)
+    WHERE USE_YN = '1';
+
+-- blob별 사용 중 참조 확인 (GC/보관 대상 판정의 NOT EXISTS / EXISTS)
+CREATE INDEX IF NOT EXISTS IX_CHMM_BOARD_FILE_BLOB_ACTIVE
+    ON CHMM_BOARD_FILE (STR_FILE_NM, FILE_PATH)
+    WHERE USE_YN = '1';
+
+-- 보관 대상 조회 (삭제 행만)
+CREATE INDEX IF NOT EXISTS IX_CHMM_BOARD_DELETED
+    ON CHMM_BOARD (SYS_UPDATE_DTM)
+    WHERE USE_YN = '0';
+CREATE INDEX IF NOT EXISTS IX_CHMM_BOARD_FILE_DELETED
+    ON CHMM_BOARD_FILE (SYS_UPDATE_DTM)
+    WHERE USE_YN = '0';
@@ -0,0 +1,4 @@
+-- 게시물 목록 커서 페이징 인덱스
+-- BRD_ID, USE_YN 조건과 BOARD_ID DESC seek/정렬을 하나의 인덱스 범위 스캔으로 처리
+-- (사용자 목록 USER_ID seek는 기본 키 인덱스 사용)
+CREATE INDEX IX_CHMM_BOARD_BRD_USE_ID ON CHMM_BOARD (BRD_ID, USE_YN, BOARD_ID DESC);
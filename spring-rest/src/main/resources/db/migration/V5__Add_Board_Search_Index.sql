@@ -0,0 +1,16 @@
+-- 게시물 검색 인덱스
+-- 1) 부분 문자열 검색(LIKE '%키워드%', 한글 포함)은 pg_trgm 트라이그램 GIN 인덱스로 처리
+-- 2) 단어 검색(fulltext)은 제목(A)/내용(B) 가중치를 둔 생성 컬럼 SEARCH_TSV의 GIN 인덱스로 처리
+--    형태소 분석기가 없는 한글을 고려하여 'simple' 설정(공백 단위 토큰, 어간 추출 없음) 사용
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE CHMM_BOARD
+    ADD COLUMN SEARCH_TSV tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', COALESCE(TITLE, '')), 'A') ||
+        setweight(to_tsvector('simple', COALESCE(CONTENTS, '')), 'B')
+    ) STORED;
+
+CREATE INDEX IX_CHMM_BOARD_SEARCH_TSV ON CHMM_BOARD USING GIN (SEARCH_TSV);
+CREATE INDEX IX_CHMM_BOARD_TITLE_TRGM ON CHMM_BOARD USING GIN (TITLE gin_trgm_ops);
+CREATE INDEX IX_CHMM_BOARD_CONTENTS_TRGM ON CHMM_BOARD USING GIN (CONTENTS gin_trgm_ops);
+CREATE INDEX IX_CHMM_BOARD_USER_ID_TRGM ON CHMM_BOARD USING GIN (USER_ID gin_trgm_ops);
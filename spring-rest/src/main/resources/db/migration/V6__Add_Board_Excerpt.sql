@@ -0,0 +1,14 @@
+-- 게시물 목록용 본문 요약 컬럼
+-- 목록 조회 시 CONTENTS(TEXT) 전체를 읽지 않도록 태그를 제거한 평문 앞부분을 저장
+-- 신규/수정 게시물은 애플리케이션(TextExcerpts)에서 같은 규칙으로 채움
+ALTER TABLE CHMM_BOARD ADD COLUMN EXCERPT VARCHAR(200);
+
+UPDATE CHMM_BOARD
+SET EXCERPT = LEFT(
+        btrim(regexp_replace(
+            replace(replace(replace(replace(replace(replace(
+                regexp_replace(COALESCE(CONTENTS, ''), '<[^>]*>', ' ', 'g'),
+                '&nbsp;', ' '), '&lt;', '<'), '&gt;', '>'), '&quot;', '"'), '&#39;', ''''), '&amp;', '&'),
+            '\s+', ' ', 'g')),
+        200)
+WHERE CONTENTS IS NOT NULL;
@@ -0,0 +1,3 @@
+-- 첨부파일 내용 해시 (SHA-256, 16진수 64자)
+-- 업로드 스트리밍 중 계산하여 저장, 기존 파일은 NULL
+ALTER TABLE CHMM_BOARD_FILE ADD COLUMN FILE_HASH VARCHAR(64);
@@ -0,0 +1,13 @@
+-- 첨부파일 내용 주소 저장(/cas/ab/cd/<sha256>) 전환에 따른 참조 관리
+-- 같은 내용의 파일 행들은 동일한 FILE_PATH + STR_FILE_NM(blob)을 공유하며,
+-- 사용 중(USE_YN = '1') 행이 하나도 없는 blob은 유예 기간 후 GC가 물리 삭제하고 PURGE_DTM 기록
+ALTER TABLE CHMM_BOARD_FILE ADD COLUMN PURGE_DTM TIMESTAMP;
+
+-- blob별 참조 확인 (NOT EXISTS / COUNT)
+CREATE INDEX IF NOT EXISTS IX_CHMM_BOARD_FILE_BLOB
+    ON CHMM_BOARD_FILE (STR_FILE_NM, FILE_PATH);
+
+-- GC 후보 조회 (삭제되었으나 아직 정리되지 않은 행)
+CREATE INDEX IF NOT EXISTS IX_CHMM_BOARD_FILE_PURGE
+    ON CHMM_BOARD_FILE (SYS_UPDATE_DTM)
+    WHERE USE_YN = '0' AND PURGE_DTM IS NULL;
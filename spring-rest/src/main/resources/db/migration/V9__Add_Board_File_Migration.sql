@@ -0,0 +1,10 @@
+-- 첨부파일 저장 위치 이전(평면 /board/ -> 분산 /cas/ab/cd/) 추적
+-- 이전 후에도 발급된 서명 URL/캐시된 응답이 기존 경로를 참조할 수 있으므로
+-- 기존 파일은 유예 기간 후 GC가 삭제하고 PREV_* 컬럼을 비움
+ALTER TABLE CHMM_BOARD_FILE ADD COLUMN PREV_FILE_PATH VARCHAR(500);
+ALTER TABLE CHMM_BOARD_FILE ADD COLUMN PREV_STR_FILE_NM VARCHAR(255);
+ALTER TABLE CHMM_BOARD_FILE ADD COLUMN MIGRATE_DTM TIMESTAMP;
+
+CREATE INDEX IF NOT EXISTS IX_CHMM_BOARD_FILE_MIGRATED
+    ON CHMM_BOARD_FILE (MIGRATE_DTM)
+    WHERE PREV_FILE_PATH IS NOT NULL;
@@ -0,0 +1,60 @@
+package com.example.springrest.domain.boards.board.service;
+
+import com.example.springrest.domain.boards.board.model.entity.Board;
+import com.example.springrest.global.config.BoardDetailCacheProperties;
+import com.example.springrest.global.security.DownloadUrlSigner;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BoardDetailCacheTest {
+
+    private DownloadUrlSigner downloadUrlSigner;
+    private BoardDetailCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<Integer, Board> loader = boardId -> {
+        loads.incrementAndGet();
+        return Board.builder()
+                .boardId(boardId)
+                .sysUpdateDtm(LocalDateTime.of(2026, 1, 1, 0, 0))
+                .build();
+    };
+
+    @BeforeEach
+    void setUp() {
+        downloadUrlSigner = mock(DownloadUrlSigner.class);
+        when(downloadUrlSigner.currentExpiresAt()).thenReturn(1_000L);
+        cache = new BoardDetailCache(new ObjectMapper().findAndRegisterModules(), downloadUrlSigner,
+                new BoardDetailCacheProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void reusesEntryWithinSignedUrlBucket() {
+        BoardDetailCache.Entry first = cache.get(1, loader);
+        BoardDetailCache.Entry second = cache.get(1, loader);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void reloadsWithNewEtagWhenSignedUrlBucketChanges() {
+        BoardDetailCache.Entry first = cache.get(1, loader);
+
+        when(downloadUrlSigner.currentExpiresAt()).thenReturn(1_300L);
+        BoardDetailCache.Entry second = cache.get(1, loader);
+
+        assertThat(loads).hasValue(2);
+        assertThat(second.etag()).isNotEqualTo(first.etag());
+        assertThat(second.urlExpiresAt()).isEqualTo(1_300L);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.springrest.domain.boards.board.service;
+
+import com.example.springrest.domain.boards.board.model.entity.BoardFile;
+import com.example.springrest.domain.boards.board.repository.BoardFileMapper;
+import com.example.springrest.global.config.SignedUrlProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BoardFileCacheTest {
+
+    private BoardFileMapper boardFileMapper;
+    private BoardFileCache cache;
+
+    @BeforeEach
+    void setUp() {
+        boardFileMapper = mock(BoardFileMapper.class);
+        cache = new BoardFileCache(boardFileMapper, new SignedUrlProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void repeatedLookupsHitTheDatabaseOnce() {
+        when(boardFileMapper.findById(7)).thenReturn(BoardFile.builder().fileId(7).useYn("1").build());
+
+        assertThat(cache.get(7)).isPresent();
+        assertThat(cache.get(7)).isPresent();
+        verify(boardFileMapper, times(1)).findById(7);
+    }
+
+    @Test
+    void invalidateReloadsDeletedRow() {
+        when(boardFileMapper.findById(7)).thenReturn(BoardFile.builder().fileId(7).useYn("1").build());
+        cache.get(7);
+
+        when(boardFileMapper.findById(7)).thenReturn(BoardFile.builder().fileId(7).useYn("0").build());
+        cache.invalidate(7);
+
+        assertThat(cache.get(7)).get().extracting(BoardFile::getUseYn).isEqualTo("0");
+        verify(boardFileMapper, times(2)).findById(7);
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.springrest.domain.boards.board.service;
+
+import com.example.springrest.domain.boards.board.model.entity.BoardFile;
+import com.example.springrest.domain.boards.board.repository.BoardFileMapper;
+import com.example.springrest.global.config.FileContentCacheProperties;
+import com.example.springrest.global.config.FileUploadProperties;
+import com.example.springrest.global.util.FileContentCache;
+import com.example.springrest.global.util.FileStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BoardFileGarbageCollectorTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private FileStore fileStore;
+    private BoardFileMapper boardFileMapper;
+    private BoardFileGarbageCollector collector;
+
+    @BeforeEach
+    void setUp() {
+        FileUploadProperties properties = new FileUploadProperties();
+        // 모든 분산 디렉터리를 한 번에 검사
+        properties.getGc().setOrphanScanShards(256);
+        fileStore = new FileStore(properties);
+        ReflectionTestUtils.setField(fileStore, "fileDir", uploadDir.toString());
+        boardFileMapper = mock(BoardFileMapper.class);
+        when(boardFileMapper.findPurgeCandidates(any(), anyInt())).thenReturn(List.of());
+        when(boardFileMapper.findMigratedBefore(any(), anyInt())).thenReturn(List.of());
+        when(boardFileMapper.findReferencedBlobs(anyString(), anyList())).thenReturn(List.of());
+        collector = new BoardFileGarbageCollector(boardFileMapper, fileStore,
+                new FileContentCache(new FileContentCacheProperties(), new SimpleMeterRegistry()),
+                properties, new SimpleMeterRegistry());
+    }
+
+    private BoardFile storeAged(String content, Duration age) throws IOException {
+        BoardFile blob = fileStore.storeStream(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)),
+                "a.txt", "text/plain", 1);
+        Files.setLastModifiedTime(pathOf(blob), FileTime.from(Instant.now().minus(age)));
+        return blob;
+    }
+
+    private Path pathOf(BoardFile blob) {
+        return fileStore.getStoredPath(blob.getFilePath(), blob.getStrFileNm());
+    }
+
+    @Test
+    void sweepsOrphanBlobLostFromReleaseQueue() throws IOException {
+        BoardFile orphan = storeAged("rolled back upload", Duration.ofDays(2));
+
+        collector.collect();
+
+        assertThat(pathOf(orphan)).doesNotExist();
+    }
+
+    @Test
+    void sweepKeepsReferencedAndRecentBlobs() throws IOException {
+        BoardFile referenced = storeAged("referenced", Duration.ofDays(2));
+        BoardFile recent = storeAged("recent", Duration.ZERO);
+        when(boardFileMapper.findReferencedBlobs(eq(referenced.getFilePath()), anyList()))
+                .thenReturn(List.of(referenced.getStrFileNm()));
+
+        collector.collect();
+
+        assertThat(pathOf(referenced)).exists();
+        assertThat(pathOf(recent)).exists();
+    }
+
+    @Test
+    void deletedBlobReusedAfterMarkingIsKept() throws IOException {
+        BoardFile blob = storeAged("deleted then reused", Duration.ofDays(2));
+        when(boardFileMapper.findPurgeCandidates(any(), anyInt())).thenReturn(List.of(blob));
+        // 정리 표시 직후 같은 내용이 다시 업로드되어 사용 중 행이 생김
+        when(boardFileMapper.markPurged(blob.getFilePath(), blob.getStrFileNm())).thenAnswer(invocation -> {
+            fileStore.storeStream(new ByteArrayInputStream("deleted then reused".getBytes(StandardCharsets.UTF_8)),
+                    "b.txt", "text/plain", 2);
+            when(boardFileMapper.findReferencedBlobs(eq(blob.getFilePath()), anyList()))
+                    .thenReturn(List.of(blob.getStrFileNm()));
+            return 1;
+        });
+
+        collector.collect();
+
+        assertThat(Files.readString(pathOf(blob))).isEqualTo("deleted then reused");
+    }
+
+    @Test
+    void deletedBlobIsPurgedWhenStillUnreferenced() throws IOException {
+        BoardFile blob = storeAged("deleted", Duration.ofDays(2));
+        when(boardFileMapper.findPurgeCandidates(any(), anyInt())).thenReturn(List.of(blob));
+        when(boardFileMapper.markPurged(blob.getFilePath(), blob.getStrFileNm())).thenReturn(1);
+
+        collector.collect();
+
+        assertThat(pathOf(blob)).doesNotExist();
+    }
+
+    private BoardFile legacyFile(String content) throws IOException {
+        Path legacy = uploadDir.resolve("legacy").resolve("old.txt");
+        Files.createDirectories(legacy.getParent());
+        Files.writeString(legacy, content);
+        return BoardFile.builder().fileId(5).filePath("/legacy/").strFileNm("old.txt").build();
+    }
+
+    @Test
+    void migratedPreviousLocationIsPurgedAndCleared() throws IOException {
+        BoardFile prev = legacyFile("migrated");
+        when(boardFileMapper.findMigratedBefore(any(), anyInt())).thenReturn(List.of(prev));
+
+        collector.collect();
+
+        assertThat(pathOf(prev)).doesNotExist();
+        verify(boardFileMapper).clearPrevLocation(5);
+    }
+
+    @Test
+    void failedPurgeKeepsPreviousLocationForRetry() throws IOException {
+        BoardFile prev = legacyFile("migrated");
+        when(boardFileMapper.findMigratedBefore(any(), anyInt())).thenReturn(List.of(prev));
+        // 삭제 대기 이름 자리에 비어 있지 않은 디렉터리가 있어 이름 변경(삭제)이 실패
+        Path blocker = pathOf(prev).resolveSibling("old.txt.purge");
+        Files.createDirectories(blocker);
+        Files.writeString(blocker.resolve("x"), "x");
+
+        collector.collect();
+
+        assertThat(pathOf(prev)).exists();
+        verify(boardFileMapper, never()).clearPrevLocation(5);
+    }
+
+    @Test
+    void stillReferencedPreviousLocationIsClearedWithoutPurge() throws IOException {
+        BoardFile prev = legacyFile("shared");
+        when(boardFileMapper.findMigratedBefore(any(), anyInt())).thenReturn(List.of(prev));
+        when(boardFileMapper.countByBlob("/legacy/", "old.txt")).thenReturn(1);
+
+        collector.collect();
+
+        assertThat(pathOf(prev)).exists();
+        verify(boardFileMapper).clearPrevLocation(5);
+    }
+}
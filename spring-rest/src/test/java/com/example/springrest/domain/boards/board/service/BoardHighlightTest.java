@@ -0,0 +1,31 @@
+package com.example.springrest.domain.boards.board.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoardHighlightTest {
+
+    private static String marked(String text) {
+        return BoardHighlight.START_MARKER + text + BoardHighlight.STOP_MARKER;
+    }
+
+    @Test
+    void escapesContentAndKeepsOnlyMarkers() {
+        String snippet = "<script>alert(1)</script> " + marked("검색") + " & \"quote\"";
+
+        assertThat(BoardHighlight.toHtml(snippet))
+                .isEqualTo("&lt;script&gt;alert(1)&lt;/script&gt; <mark>검색</mark> &amp; &quot;quote&quot;");
+    }
+
+    @Test
+    void literalMarkTagsInContentAreEscaped() {
+        assertThat(BoardHighlight.toHtml("<mark>fake</mark> " + marked("real")))
+                .isEqualTo("&lt;mark&gt;fake&lt;/mark&gt; <mark>real</mark>");
+    }
+
+    @Test
+    void nullStaysNull() {
+        assertThat(BoardHighlight.toHtml(null)).isNull();
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.springrest.global.bulk;
+
+import com.example.springrest.global.config.BulkImportProperties;
+import com.example.springrest.global.export.ExportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class BulkImporterTest {
+
+    private BulkImporter importer;
+    private final List<String> written = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        BulkImportProperties properties = new BulkImportProperties();
+        properties.setBatchSize(2);
+        importer = new BulkImporter(properties, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new ObjectMapper());
+    }
+
+    private BulkImportResult run(InputStream in) {
+        return importer.run("test", in, ExportFormat.CSV, record -> {
+            if ("bad".equals(record.get("name"))) {
+                throw new IllegalArgumentException("invalid");
+            }
+            return record.get("name");
+        }, values -> {
+            written.addAll(values);
+            return List.of();
+        });
+    }
+
+    private static InputStream input(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void unclosedQuoteKeepsCommittedRowsAndMarksRowFailed() {
+        BulkImportResult result = run(input("name\na\nb\nbad\nc\n\"d\ne\n"));
+
+        assertThat(written).containsExactly("a", "b", "c");
+        assertThat(result.getTotal()).isEqualTo(5);
+        assertThat(result.getInserted()).isEqualTo(3);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(BulkImportResult.RowError::row).containsExactly(3L, 5L);
+        assertThat(result.isAborted()).isFalse();
+    }
+
+    @Test
+    void brokenInputStreamReturnsPartialResult() {
+        InputStream broken = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+        };
+        BulkImportResult result = run(new SequenceInputStream(input("name\na\nb\nc\n"), broken));
+
+        assertThat(written).containsExactly("a", "b", "c");
+        assertThat(result.getInserted()).isEqualTo(3);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getErrors().get(0).row()).isEqualTo(4);
+        assertThat(result.isAborted()).isTrue();
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.springrest.global.bulk;
+
+import com.example.springrest.global.export.ExportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkRecordReaderTest {
+
+    private static final int MAX_RECORD_LENGTH = 32;
+
+    private List<BulkRecord> readAll(ExportFormat format, String input) throws IOException {
+        BulkRecordReader reader = new BulkRecordReader(
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), format, new ObjectMapper(),
+                MAX_RECORD_LENGTH);
+        List<BulkRecord> records = new ArrayList<>();
+        BulkRecord record;
+        while ((record = reader.next()) != null) {
+            records.add(record);
+        }
+        return records;
+    }
+
+    @Test
+    void csvHandlesBomQuotesAndEmbeddedNewlines() throws IOException {
+        List<BulkRecord> records = readAll(ExportFormat.CSV,
+                "\uFEFFid,name\r\n1,\"a,\"\"b\"\"\nc\"\r\n\r\n2,\n");
+
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0).row()).isEqualTo(1);
+        assertThat(records.get(0).get("id")).isEqualTo("1");
+        assertThat(records.get(0).get("name")).isEqualTo("a,\"b\"\nc");
+        assertThat(records.get(1).row()).isEqualTo(2);
+        assertThat(records.get(1).get("name")).isNull();
+    }
+
+    @Test
+    void csvColumnCountMismatchIsRowError() throws IOException {
+        List<BulkRecord> records = readAll(ExportFormat.CSV, "id,name\n1\n2,b\n");
+
+        assertThat(records.get(0).error()).contains("컬럼 수");
+        assertThat(records.get(1).error()).isNull();
+    }
+
+    @Test
+    void oversizedCsvRecordIsRowErrorAndReadingContinues() throws IOException {
+        String longValue = "x".repeat(MAX_RECORD_LENGTH * 4);
+        List<BulkRecord> records = readAll(ExportFormat.CSV,
+                "id,name\n1,\"" + longValue + "\n" + longValue + "\"\n2,b\n");
+
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0).row()).isEqualTo(1);
+        assertThat(records.get(0).error()).contains("행 길이");
+        assertThat(records.get(0).fields()).isEmpty();
+        assertThat(records.get(1).row()).isEqualTo(2);
+        assertThat(records.get(1).get("name")).isEqualTo("b");
+    }
+
+    @Test
+    void quoteInsideOversizedUnquotedFieldDoesNotOpenQuotedSection() throws IOException {
+        String longValue = "x".repeat(MAX_RECORD_LENGTH * 2);
+        List<BulkRecord> records = readAll(ExportFormat.CSV, "id,name\n1," + longValue + "\"y\n2,b\n");
+
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0).error()).contains("행 길이");
+        assertThat(records.get(1).get("name")).isEqualTo("b");
+    }
+
+    @Test
+    void unclosedQuoteIsRowErrorInsteadOfException() throws IOException {
+        List<BulkRecord> records = readAll(ExportFormat.CSV, "id,name\n1,a\n2,\"b\n3,c\n");
+
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0).error()).isNull();
+        assertThat(records.get(1).row()).isEqualTo(2);
+        assertThat(records.get(1).error()).contains("따옴표");
+    }
+
+    @Test
+    void unreadableCsvHeaderIsRejected() {
+        assertThatThrownBy(() -> readAll(ExportFormat.CSV, "id,\"name\n1,a\n"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> readAll(ExportFormat.CSV, "x".repeat(MAX_RECORD_LENGTH + 1) + "\n1\n"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void ndjsonSkipsBlankLinesAndReportsMalformedRows() throws IOException {
+        List<BulkRecord> records = readAll(ExportFormat.NDJSON,
+                "\uFEFF{\"id\":\"1\",\"tags\":[\"a\",\"b\"]}\n\n{\"id\":\n[1]\r\n{\"id\":\"\"}\n");
+
+        assertThat(records).hasSize(4);
+        assertThat(records.get(0).get("id")).isEqualTo("1");
+        assertThat(records.get(0).get("tags")).isEqualTo("a;b");
+        assertThat(records.get(1).row()).isEqualTo(2);
+        assertThat(records.get(1).error()).contains("JSON 형식 오류");
+        assertThat(records.get(2).error()).contains("JSON 객체");
+        assertThat(records.get(3).error()).isNull();
+        assertThat(records.get(3).get("id")).isNull();
+    }
+
+    @Test
+    void oversizedNdjsonLineIsRowErrorAndReadingContinues() throws IOException {
+        List<BulkRecord> records = readAll(ExportFormat.NDJSON,
+                "{\"id\":\"" + "x".repeat(MAX_RECORD_LENGTH * 4) + "\"}\n{\"id\":\"2\"}\n");
+
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0).error()).contains("행 길이");
+        assertThat(records.get(1).row()).isEqualTo(2);
+        assertThat(records.get(1).get("id")).isEqualTo("2");
+    }
+}
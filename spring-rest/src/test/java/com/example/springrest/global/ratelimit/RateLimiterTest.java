@@ -0,0 +1,72 @@
+package com.example.springrest.global.ratelimit;
+
+import com.example.springrest.global.config.RateLimitProperties;
+import com.example.springrest.global.exception.RateLimitException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimiterTest {
+
+    private RateLimitProperties properties;
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setMaxKeys(20);
+        properties.setLoginUser(new RateLimitProperties.Limit(2, Duration.ofMinutes(1)));
+        rateLimiter = new RateLimiter(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void rejectsAfterCapacityIsUsed() {
+        rateLimiter.acquire(RateLimitPolicy.LOGIN_USER, "user1");
+        rateLimiter.acquire(RateLimitPolicy.LOGIN_USER, "user1");
+
+        assertThatThrownBy(() -> rateLimiter.acquire(RateLimitPolicy.LOGIN_USER, "user1"))
+                .isInstanceOf(RateLimitException.class)
+                .satisfies(e -> assertThat(((RateLimitException) e).getRetryAfterSeconds()).isPositive());
+        assertThatCode(() -> rateLimiter.acquire(RateLimitPolicy.LOGIN_USER, "user2")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void fullKeyTableKeepsLimitingNewKeys() {
+        for (int i = 0; i < 100; i++) {
+            rateLimiter.acquire(RateLimitPolicy.LOGIN_USER, "filler-" + i);
+        }
+
+        rateLimiter.acquire(RateLimitPolicy.LOGIN_USER, "fresh");
+        rateLimiter.acquire(RateLimitPolicy.LOGIN_USER, "fresh");
+        assertThatThrownBy(() -> rateLimiter.acquire(RateLimitPolicy.LOGIN_USER, "fresh"))
+                .isInstanceOf(RateLimitException.class);
+    }
+
+    @Test
+    void fullKeyTableKeepsThrottledKeys() {
+        rateLimiter.acquire(RateLimitPolicy.LOGIN_USER, "victim");
+        rateLimiter.acquire(RateLimitPolicy.LOGIN_USER, "victim");
+
+        // 새 키로 테이블을 여러 번 가득 채워도 제한 중인 키는 제거되지 않음
+        for (int i = 0; i < 200; i++) {
+            rateLimiter.acquire(RateLimitPolicy.LOGIN_USER, "rotating-" + i);
+        }
+
+        assertThatThrownBy(() -> rateLimiter.acquire(RateLimitPolicy.LOGIN_USER, "victim"))
+                .isInstanceOf(RateLimitException.class);
+    }
+
+    @Test
+    void disabledLimiterAllowsEverything() {
+        properties.setEnabled(false);
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.acquire(RateLimitPolicy.LOGIN_USER, "user1");
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.springrest.global.security;
+
+import com.example.springrest.global.config.SignedUrlProperties;
+import com.example.springrest.global.exception.InvalidTokenException;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DownloadUrlSignerTest {
+
+    private static final String KEY = Base64.getEncoder()
+            .encodeToString("test-download-url-signing-key-32".getBytes(StandardCharsets.UTF_8));
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private static SignedUrlProperties properties(Map<String, String> keys) {
+        SignedUrlProperties properties = new SignedUrlProperties();
+        properties.setKeys(new LinkedHashMap<>(keys));
+        return properties;
+    }
+
+    private static DownloadUrlSigner signer(Instant now) {
+        return new DownloadUrlSigner(properties(Map.of("k1", KEY)), false, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private static String param(String url, String name) {
+        return UriComponentsBuilder.fromUriString(url).build().getQueryParams().getFirst(name);
+    }
+
+    private static DownloadUrlSigner.SignedDownload sign(DownloadUrlSigner signer) {
+        return signer.sign(new DownloadUrlSigner.SignedDownload(42, "abc123", 0, null));
+    }
+
+    @Test
+    void verifiesIssuedUrl() {
+        DownloadUrlSigner signer = signer(NOW);
+        DownloadUrlSigner.SignedDownload signed = sign(signer);
+
+        DownloadUrlSigner.SignedDownload verified = signer.verify(param(signed.url(), "t"), param(signed.url(), "s"));
+
+        assertThat(verified.fileId()).isEqualTo(42);
+        assertThat(verified.etag()).isEqualTo("abc123");
+        assertThat(verified.expiresAt()).isEqualTo(signed.expiresAt());
+    }
+
+    @Test
+    void expiryIsStableWithinTtlBucket() {
+        DownloadUrlSigner signer = signer(NOW);
+        long bucket = signer.currentExpiresAt();
+
+        assertThat(sign(signer).expiresAt()).isEqualTo(bucket);
+        assertThat(signer(NOW.plus(Duration.ofMinutes(4))).currentExpiresAt()).isEqualTo(bucket);
+        assertThat(signer(NOW.plus(Duration.ofMinutes(5))).currentExpiresAt()).isGreaterThan(bucket);
+    }
+
+    @Test
+    void tokenCarriesNoStoragePath() {
+        DownloadUrlSigner.SignedDownload signed = sign(signer(NOW));
+        String payload = new String(Base64.getUrlDecoder().decode(param(signed.url(), "t")), StandardCharsets.UTF_8);
+
+        assertThat(payload.split("\\|")).hasSize(5).endsWith("42", "abc123");
+    }
+
+    @Test
+    void rejectsTamperedToken() {
+        DownloadUrlSigner signer = signer(NOW);
+        DownloadUrlSigner.SignedDownload signed = sign(signer);
+        String forged = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                ("v1|k1|" + signed.expiresAt() + "|1|../../etc/passwd").getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> signer.verify(forged, param(signed.url(), "s")))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    void rejectsUrlSignedWithAnotherKey() {
+        String otherKey = Base64.getEncoder()
+                .encodeToString("another-signing-key-of-32-bytes!".getBytes(StandardCharsets.UTF_8));
+        DownloadUrlSigner other = new DownloadUrlSigner(properties(Map.of("k1", otherKey)), false,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+        DownloadUrlSigner.SignedDownload signed = sign(other);
+
+        assertThatThrownBy(() -> signer(NOW).verify(param(signed.url(), "t"), param(signed.url(), "s")))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    void rejectsExpiredUrl() {
+        DownloadUrlSigner.SignedDownload signed = sign(signer(NOW));
+        DownloadUrlSigner later = signer(NOW.plus(Duration.ofMinutes(11)));
+
+        assertThatThrownBy(() -> later.verify(param(signed.url(), "t"), param(signed.url(), "s")))
+                .isInstanceOf(InvalidTokenException.class)
+                .hasMessageContaining("expired");
+    }
+
+    @Test
+    void rejectsMalformedInput() {
+        DownloadUrlSigner signer = signer(NOW);
+
+        assertThatThrownBy(() -> signer.verify("%%%", "%%%")).isInstanceOf(InvalidTokenException.class);
+        assertThatThrownBy(() -> signer.verify("", "")).isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    void missingKeyFailsOutsideLocalAndDev() {
+        assertThatThrownBy(() -> new DownloadUrlSigner(properties(Map.of()), false, Clock.systemUTC()))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new DownloadUrlSigner(properties(Map.of("k1", "")), false, Clock.systemUTC()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void missingKeyUsesEphemeralKeyInLocalAndDev() {
+        DownloadUrlSigner signer = new DownloadUrlSigner(properties(Map.of()), true, Clock.systemUTC());
+        DownloadUrlSigner.SignedDownload signed = sign(signer);
+
+        assertThat(signer.verify(param(signed.url(), "t"), param(signed.url(), "s")).fileId()).isEqualTo(42);
+    }
+}
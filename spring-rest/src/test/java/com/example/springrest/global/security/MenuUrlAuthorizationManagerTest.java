@@ -0,0 +1,91 @@
+package com.example.springrest.global.security;
+
+import com.example.springrest.domain.menu.service.MenuUrlIndex;
+import com.example.springrest.global.config.MenuAuthorizationProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MenuUrlAuthorizationManagerTest {
+
+    private MenuUrlIndex menuUrlIndex;
+    private MenuUrlAuthorizationManager manager;
+    private final Authentication user = new UsernamePasswordAuthenticationToken("user1", null,
+            AuthorityUtils.createAuthorityList("ROLE_USER"));
+
+    @BeforeEach
+    void setUp() {
+        menuUrlIndex = mock(MenuUrlIndex.class);
+        manager = new MenuUrlAuthorizationManager(menuUrlIndex, new MenuAuthorizationProperties());
+        when(menuUrlIndex.isAllowed(anyString(), anyCollection())).thenReturn(true);
+        when(menuUrlIndex.isAllowed(eq("/users/1"), anyCollection())).thenReturn(false);
+    }
+
+    private boolean authorize(Authentication authentication, String requestUri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", requestUri);
+        return manager.authorize(() -> authentication, new RequestAuthorizationContext(request)).isGranted();
+    }
+
+    @Test
+    void deniesUnmappedRole() {
+        assertThat(authorize(user, "/api/v1/mgmt/users/1")).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/api/v1/mgmt/%75sers/1",
+            "/api/v1/mgmt/users;jsessionid=abc/1",
+            "/api/v1/mgmt//users/1",
+            "/api/v1/%6dgmt/users/1",
+            "/api/v1/mgmt/users/%31"
+    })
+    void encodedOrDecoratedPathIsCheckedLikeRoutedPath(String requestUri) {
+        assertThat(authorize(user, requestUri)).isFalse();
+        verify(menuUrlIndex).isAllowed(eq("/users/1"), anyCollection());
+    }
+
+    @Test
+    void pathOutsidePrefixIsNotChecked() {
+        assertThat(authorize(user, "/api/v1/auth/me")).isTrue();
+        assertThat(authorize(user, "/api/v1/mgmtx/users/1")).isTrue();
+        verify(menuUrlIndex, never()).isAllowed(anyString(), anyCollection());
+    }
+
+    @Test
+    void excludedPathIsNotChecked() {
+        assertThat(authorize(user, "/api/v1/mgmt/menus/me")).isTrue();
+        verify(menuUrlIndex, never()).isAllowed(anyString(), anyCollection());
+    }
+
+    @Test
+    void bypassRoleIsAllowed() {
+        Authentication admin = new UsernamePasswordAuthenticationToken("admin", null,
+                AuthorityUtils.createAuthorityList("ROLE_ADMIN"));
+        assertThat(authorize(admin, "/api/v1/mgmt/users/1")).isTrue();
+    }
+
+    @Test
+    void anonymousIsDenied() {
+        Authentication anonymous = new AnonymousAuthenticationToken("key", "anonymous",
+                List.copyOf(AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+        assertThat(authorize(anonymous, "/api/v1/mgmt/boards")).isFalse();
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.springrest.global.security;
+
+import com.example.springrest.global.config.PasswordHashingProperties;
+import com.example.springrest.global.exception.RateLimitException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHasherTest {
+
+    private PasswordHasher passwordHasher;
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    void rejectsWhenHashExceedsTimeout() {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setThreads(1);
+        properties.setTimeout(Duration.ofMillis(100));
+        passwordHasher = new PasswordHasher(new SlowEncoder(Duration.ofSeconds(5)), properties,
+                new SimpleMeterRegistry());
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> passwordHasher.matches("password", "hash"))
+                .isInstanceOf(RateLimitException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void returnsResultWithinTimeout() {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        passwordHasher = new PasswordHasher(new SlowEncoder(Duration.ZERO), properties, new SimpleMeterRegistry());
+
+        assertThat(passwordHasher.matches("password", "password")).isTrue();
+        assertThat(passwordHasher.encode("password")).isEqualTo("password");
+    }
+
+    @Test
+    void detectsCostChange() {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setStrength(12);
+        passwordHasher = new PasswordHasher(new SlowEncoder(Duration.ZERO), properties, new SimpleMeterRegistry());
+
+        assertThat(passwordHasher.needsRehash("$2a$10$abcdefghijklmnopqrstuv")).isTrue();
+        assertThat(passwordHasher.needsRehash("$2a$12$abcdefghijklmnopqrstuv")).isFalse();
+        assertThat(passwordHasher.needsRehash(null)).isFalse();
+    }
+
+    /**
+     * 지정한 시간만큼 지연되는 평문 비교 인코더
+     */
+    private record SlowEncoder(Duration delay) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            sleep();
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            sleep();
+            return rawPassword.toString().equals(encodedPassword);
+        }
+
+        private void sleep() {
+            try {
+                Thread.sleep(delay.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.springrest.global.util;
+
+import com.example.springrest.global.config.ClientIpProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientIpResolverTest {
+
+    private static ClientIpResolver resolver(String... trustedProxies) {
+        ClientIpProperties properties = new ClientIpProperties();
+        properties.setTrustedProxies(List.of(trustedProxies));
+        return new ClientIpResolver(properties);
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String xForwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        if (xForwardedFor != null) {
+            request.addHeader("X-Forwarded-For", xForwardedFor);
+        }
+        return request;
+    }
+
+    @Test
+    void ignoresForwardedHeaderWithoutTrustedProxies() {
+        assertThat(resolver().resolve(request("203.0.113.7", "1.2.3.4"))).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void ignoresForwardedHeaderFromUntrustedPeer() {
+        assertThat(resolver("10.0.0.0/8").resolve(request("203.0.113.7", "1.2.3.4"))).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void usesRightmostUntrustedHopBehindTrustedProxy() {
+        // 클라이언트가 위조한 왼쪽 값(1.2.3.4)은 무시하고 프록시가 추가한 값을 사용
+        assertThat(resolver("10.0.0.0/8").resolve(request("10.0.0.5", "1.2.3.4, 198.51.100.9, 10.0.0.2")))
+                .isEqualTo("198.51.100.9");
+    }
+
+    @Test
+    void usesLeftmostHopWhenAllHopsAreTrusted() {
+        assertThat(resolver("10.0.0.0/8").resolve(request("10.0.0.5", "10.1.1.1, 10.0.0.2"))).isEqualTo("10.1.1.1");
+    }
+
+    @Test
+    void treatsMalformedHopAsUntrusted() {
+        assertThat(resolver("127.0.0.1").resolve(request("127.0.0.1", "not-an-ip"))).isEqualTo("not-an-ip");
+        assertThat(resolver("127.0.0.1").resolve(request("127.0.0.1", " "))).isEqualTo("127.0.0.1");
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.springrest.global.util;
+
+import com.example.springrest.global.config.FileContentCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileContentCacheTest {
+
+    @TempDir
+    Path dir;
+
+    private static String text(ByteBuffer content) {
+        return StandardCharsets.UTF_8.decode(content).toString();
+    }
+
+    @Test
+    void cachesSmallFilesOnHeap() throws IOException {
+        Path file = Files.writeString(dir.resolve("a.txt"), "cached");
+        FileContentCache cache = new FileContentCache(new FileContentCacheProperties(), new SimpleMeterRegistry());
+
+        ByteBuffer first = cache.get(file, 6);
+        Files.writeString(file, "change");
+        ByteBuffer second = cache.get(file, 6);
+
+        assertThat(first.isDirect()).isFalse();
+        assertThat(first.isReadOnly()).isTrue();
+        assertThat(text(first)).isEqualTo("cached");
+        // 호출마다 독립된 position을 가지며 캐시된 내용을 반환
+        assertThat(text(second)).isEqualTo("cached");
+    }
+
+    @Test
+    void skipsLargeFilesAndSizeMismatch() throws IOException {
+        FileContentCacheProperties properties = new FileContentCacheProperties();
+        properties.setMaxFileSize(DataSize.ofBytes(4));
+        FileContentCache cache = new FileContentCache(properties, new SimpleMeterRegistry());
+        Path large = Files.writeString(dir.resolve("large.txt"), "too large");
+        Path small = Files.writeString(dir.resolve("small.txt"), "ok");
+
+        assertThat(cache.get(large, 9)).isNull();
+        assertThat(cache.get(small, 3)).isNull();
+        assertThat(text(cache.get(small, 2))).isEqualTo("ok");
+    }
+
+    @Test
+    void invalidateReloadsContent() throws IOException {
+        Path file = Files.writeString(dir.resolve("a.txt"), "first");
+        FileContentCache cache = new FileContentCache(new FileContentCacheProperties(), new SimpleMeterRegistry());
+        cache.get(file, 5);
+
+        Files.writeString(file, "fresh");
+        cache.invalidate(file);
+
+        assertThat(text(cache.get(file, 5))).isEqualTo("fresh");
+    }
+}
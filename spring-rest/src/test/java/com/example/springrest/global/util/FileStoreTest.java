@@ -0,0 +1,160 @@
+package com.example.springrest.global.util;
+
+import com.example.springrest.domain.boards.board.model.entity.BoardFile;
+import com.example.springrest.global.config.FileUploadProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FileStoreTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private FileStore fileStore;
+
+    @BeforeEach
+    void setUp() {
+        fileStore = new FileStore(new FileUploadProperties());
+        ReflectionTestUtils.setField(fileStore, "fileDir", uploadDir.toString());
+    }
+
+    private BoardFile store(String content) throws IOException {
+        return fileStore.storeStream(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)),
+                "a.txt", "text/plain", 1);
+    }
+
+    private Path pathOf(BoardFile boardFile) {
+        return fileStore.getStoredPath(boardFile.getFilePath(), boardFile.getStrFileNm());
+    }
+
+    private void age(BoardFile boardFile, Duration age) throws IOException {
+        Files.setLastModifiedTime(pathOf(boardFile), FileTime.from(Instant.now().minus(age)));
+    }
+
+    @Test
+    void duplicateContentSharesBlob() throws IOException {
+        BoardFile first = store("same");
+        BoardFile second = store("same");
+
+        assertThat(second.getFilePath()).isEqualTo(first.getFilePath()).startsWith("/cas/");
+        assertThat(second.getStrFileNm()).isEqualTo(first.getStrFileNm());
+        assertThat(Files.readString(pathOf(second))).isEqualTo("same");
+    }
+
+    @Test
+    void purgeDeletesIdleUnreferencedBlob() throws IOException {
+        BoardFile blob = store("idle");
+        age(blob, Duration.ofDays(2));
+
+        long bytes = fileStore.purgeStoredFile(blob.getFilePath(), blob.getStrFileNm(),
+                Instant.now().minus(Duration.ofDays(1)), () -> true);
+
+        assertThat(bytes).isEqualTo(4);
+        assertThat(pathOf(blob)).doesNotExist();
+        assertThat(pathOf(blob).resolveSibling(blob.getStrFileNm() + ".purge")).doesNotExist();
+    }
+
+    @Test
+    void purgeKeepsBlobReusedBeforeRetire() throws IOException {
+        BoardFile blob = store("reused");
+        age(blob, Duration.ofDays(2));
+        // GC가 수정 시각을 확인한 뒤, 이름을 바꾸기 전에 같은 내용이 업로드됨
+        store("reused");
+
+        long bytes = fileStore.purgeStoredFile(blob.getFilePath(), blob.getStrFileNm(),
+                Instant.now().minus(Duration.ofDays(1)), () -> true);
+
+        assertThat(bytes).isEqualTo(-1);
+        assertThat(Files.readString(pathOf(blob))).isEqualTo("reused");
+    }
+
+    @Test
+    void uploadDuringPurgeWritesItsOwnBlob() throws IOException {
+        BoardFile blob = store("racing");
+        age(blob, Duration.ofDays(2));
+
+        // 이름 변경 후 재확인 시점에 같은 내용의 업로드가 끼어듦: 기존 blob을 재사용하지 못하고 새로 저장해야 함
+        long bytes = fileStore.purgeStoredFile(blob.getFilePath(), blob.getStrFileNm(),
+                Instant.now().minus(Duration.ofDays(1)), () -> {
+                    try {
+                        store("racing");
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                    return true;
+                });
+
+        assertThat(bytes).isEqualTo(6);
+        assertThat(Files.readString(pathOf(blob))).isEqualTo("racing");
+    }
+
+    @Test
+    void purgeKeepsBlobReferencedAfterRetire() throws IOException {
+        BoardFile blob = store("referenced");
+        age(blob, Duration.ofDays(2));
+
+        long bytes = fileStore.purgeStoredFile(blob.getFilePath(), blob.getStrFileNm(),
+                Instant.now().minus(Duration.ofDays(1)), () -> false);
+
+        assertThat(bytes).isEqualTo(-1);
+        assertThat(Files.readString(pathOf(blob))).isEqualTo("referenced");
+    }
+
+    @Test
+    void purgeOfMissingBlobReturnsZero() {
+        assertThat(fileStore.purgeStoredFile("/cas/00/00/", "missing", Instant.now(), () -> true)).isZero();
+    }
+
+    @Test
+    void findsOnlyIdleBlobsAndRestoresInterruptedPurge() throws IOException {
+        BoardFile idle = store("idle blob");
+        BoardFile fresh = store("fresh blob");
+        age(idle, Duration.ofDays(2));
+        Path tombstone = pathOf(idle).resolveSibling(idle.getStrFileNm() + ".purge");
+        Files.move(pathOf(idle), tombstone);
+
+        Instant before = Instant.now().minus(Duration.ofDays(1));
+        List<BoardFile> found = new ArrayList<>();
+        for (int shard = 0; shard < fileStore.blobShardCount(); shard++) {
+            found.addAll(fileStore.findBlobsModifiedBefore(shard, before));
+        }
+        // 중단된 삭제 파일은 원래 이름으로 복구되어 다음 검사 대상이 됨
+        assertThat(pathOf(idle)).exists();
+        assertThat(tombstone).doesNotExist();
+        assertThat(found).extracting(BoardFile::getStrFileNm).doesNotContain(fresh.getStrFileNm());
+
+        List<BoardFile> rescanned = new ArrayList<>();
+        for (int shard = 0; shard < fileStore.blobShardCount(); shard++) {
+            rescanned.addAll(fileStore.findBlobsModifiedBefore(shard, before));
+        }
+        assertThat(rescanned).extracting(BoardFile::getStrFileNm).containsExactly(idle.getStrFileNm());
+        assertThat(rescanned.get(0).getFilePath()).isEqualTo(idle.getFilePath());
+    }
+
+    @Test
+    void storedPathCannotEscapeUploadDirectory() {
+        assertThatThrownBy(() -> fileStore.getStoredPath("/../../etc/", "passwd"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> fileStore.getStoredPath("/cas/../../", "secret"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> fileStore.getStoredPath("/", ""))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(fileStore.getStoredPath("/cas/ab/cd/", "abcd").startsWith(uploadDir.toAbsolutePath())).isTrue();
+    }
+}